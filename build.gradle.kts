@@ -47,11 +47,30 @@ dependencies {
   implementation("com.google.guava:guava:30.1.1-jre")
   implementation("com.google.http-client:google-http-client:1.39.1")
   implementation("com.google.http-client:google-http-client-apache-v2:1.39.1")
+  api("org.reactivestreams:reactive-streams:1.0.3")
   implementation("io.jsonwebtoken:jjwt-api:0.11.2")
   runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.2")
   runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.2")
 }
 
+// Classes in src/main/java21 replace their Java 8 counterparts on Java 21 and newer
+val java21 by sourceSets.creating {
+  java.srcDir("src/main/java21")
+  compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+tasks.named<JavaCompile>(java21.compileJavaTaskName) {
+  javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(21)) })
+  options.release.set(21)
+}
+
 tasks.withType<Jar> {
   manifest.attributes("Automatic-Module-Name" to "net.kyori.igloo")
 }
+
+tasks.jar {
+  into("META-INF/versions/21") {
+    from(java21.output)
+  }
+  manifest.attributes("Multi-Release" to "true")
+}
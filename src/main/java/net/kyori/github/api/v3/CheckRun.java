@@ -0,0 +1,295 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.IOException;
+import java.util.Optional;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A check run.
+ *
+ * @since 2.0.0
+ */
+public interface CheckRun {
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   * @since 2.0.0
+   */
+  long id();
+
+  /**
+   * Gets the html url.
+   *
+   * @return the html url
+   * @since 2.0.0
+   */
+  @NonNull String html_url();
+
+  /**
+   * Gets the name.
+   *
+   * @return the name
+   * @since 2.0.0
+   */
+  @NonNull String name();
+
+  /**
+   * Gets the sha of the commit this check run is for.
+   *
+   * @return the commit sha
+   * @since 2.0.0
+   */
+  @NonNull String head_sha();
+
+  /**
+   * Gets the status.
+   *
+   * @return the status
+   * @since 2.0.0
+   */
+  @NonNull Status status();
+
+  /**
+   * Gets the conclusion, if the check run has completed.
+   *
+   * @return the conclusion
+   * @since 2.0.0
+   */
+  @NonNull Optional<Conclusion> conclusion();
+
+  /**
+   * Submits an update to the check run.
+   *
+   * @param update the update
+   * @param <U> the update type
+   * @throws IOException if an exception occurs during update
+   * @since 2.0.0
+   */
+  <U extends Update> void update(final @NonNull U update) throws IOException;
+
+  /**
+   * Adds annotations to the check run.
+   *
+   * <p>GitHub accepts at most 50 annotations per request, so annotations are sent in chunks of 50. Chunks are
+   * read from {@code annotations} one at a time while at most a couple of earlier chunks are still being
+   * sent, so any number of annotations can be added without holding them all in memory.</p>
+   *
+   * @param title the title of the check run output
+   * @param summary the summary of the check run output
+   * @param annotations the annotations
+   * @throws IOException if an exception occurs while adding annotations
+   * @since 2.0.0
+   */
+  void annotate(final @NonNull String title, final @NonNull String summary, final @NonNull Iterable<? extends Annotation> annotations) throws IOException;
+
+  /**
+   * A document that can be submitted during check run creation.
+   *
+   * @since 2.0.0
+   */
+  interface Create extends CheckRunPartial.NamePartial, CheckRunPartial.HeadShaPartial {
+    /**
+     * A document containing all information that may be submitted during creation.
+     *
+     * @since 2.0.0
+     */
+    interface Full extends Create, CheckRunPartial.StatusPartial, CheckRunPartial.ConclusionPartial, CheckRunPartial.DetailsUrlPartial, CheckRunPartial.OutputPartial {
+    }
+  }
+
+  /**
+   * A document that can be submitted during a check run update.
+   *
+   * @since 2.0.0
+   */
+  interface Update extends CheckRunPartial {
+    /**
+     * A document containing all information that may be submitted during an update.
+     *
+     * @since 2.0.0
+     */
+    interface Full extends Update, CheckRunPartial.NamePartial, CheckRunPartial.StatusPartial, CheckRunPartial.ConclusionPartial, CheckRunPartial.DetailsUrlPartial, CheckRunPartial.OutputPartial {
+    }
+  }
+
+  /**
+   * An annotation on a line range of a file.
+   *
+   * @since 2.0.0
+   */
+  interface Annotation {
+    /**
+     * Creates an annotation.
+     *
+     * @param path the path of the file
+     * @param startLine the first line
+     * @param endLine the last line
+     * @param level the level
+     * @param message the message
+     * @return the annotation
+     * @since 2.0.0
+     */
+    static @NonNull Annotation of(final @NonNull String path, final int startLine, final int endLine, final @NonNull Level level, final @NonNull String message) {
+      return new Annotation() {
+        @Override
+        public @NonNull String path() {
+          return path;
+        }
+
+        @Override
+        public int start_line() {
+          return startLine;
+        }
+
+        @Override
+        public int end_line() {
+          return endLine;
+        }
+
+        @Override
+        public @NonNull Level annotation_level() {
+          return level;
+        }
+
+        @Override
+        public @NonNull String message() {
+          return message;
+        }
+      };
+    }
+
+    /**
+     * Gets the path of the file.
+     *
+     * @return the path
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String path();
+
+    /**
+     * Gets the first line.
+     *
+     * @return the first line
+     * @since 2.0.0
+     */
+    @JsonProperty
+    int start_line();
+
+    /**
+     * Gets the last line.
+     *
+     * @return the last line
+     * @since 2.0.0
+     */
+    @JsonProperty
+    int end_line();
+
+    /**
+     * Gets the level.
+     *
+     * @return the level
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull Level annotation_level();
+
+    /**
+     * Gets the message.
+     *
+     * @return the message
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String message();
+
+    /**
+     * Gets the title.
+     *
+     * @return the title
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    default @Nullable String title() {
+      return null;
+    }
+
+    /**
+     * The levels of an annotation.
+     *
+     * @since 2.0.0
+     */
+    enum Level {
+      @JsonProperty("notice")
+      NOTICE,
+      @JsonProperty("warning")
+      WARNING,
+      @JsonProperty("failure")
+      FAILURE;
+    }
+  }
+
+  /**
+   * The statuses of a check run.
+   *
+   * @since 2.0.0
+   */
+  enum Status {
+    @JsonProperty("queued")
+    QUEUED,
+    @JsonProperty("in_progress")
+    IN_PROGRESS,
+    @JsonProperty("completed")
+    COMPLETED;
+  }
+
+  /**
+   * The conclusions of a completed check run.
+   *
+   * @since 2.0.0
+   */
+  enum Conclusion {
+    @JsonProperty("action_required")
+    ACTION_REQUIRED,
+    @JsonProperty("cancelled")
+    CANCELLED,
+    @JsonProperty("failure")
+    FAILURE,
+    @JsonProperty("neutral")
+    NEUTRAL,
+    @JsonProperty("success")
+    SUCCESS,
+    @JsonProperty("skipped")
+    SKIPPED,
+    @JsonProperty("timed_out")
+    TIMED_OUT;
+  }
+}
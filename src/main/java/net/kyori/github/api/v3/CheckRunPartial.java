@@ -0,0 +1,171 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Partial documents used during check run creation and update.
+ *
+ * @since 2.0.0
+ */
+public interface CheckRunPartial {
+  /**
+   * A document representing a check run's name.
+   *
+   * @since 2.0.0
+   */
+  interface NamePartial extends CheckRun.Update, CheckRunPartial {
+    /**
+     * Gets the check run's name.
+     *
+     * @return the check run name
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String name();
+  }
+
+  /**
+   * A document representing the commit a check run is for.
+   *
+   * @since 2.0.0
+   */
+  interface HeadShaPartial extends CheckRunPartial {
+    /**
+     * Gets the sha of the commit.
+     *
+     * @return the commit sha
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String head_sha();
+  }
+
+  /**
+   * A document representing a check run's status.
+   *
+   * @since 2.0.0
+   */
+  interface StatusPartial extends CheckRun.Update, CheckRunPartial {
+    /**
+     * Gets the check run's status.
+     *
+     * @return the check run status
+     * @since 2.0.0
+     */
+    @JsonProperty
+    CheckRun.@Nullable Status status();
+  }
+
+  /**
+   * A document representing a check run's conclusion.
+   *
+   * @since 2.0.0
+   */
+  interface ConclusionPartial extends CheckRun.Update, CheckRunPartial {
+    /**
+     * Gets the check run's conclusion.
+     *
+     * @return the check run conclusion
+     * @since 2.0.0
+     */
+    @JsonProperty
+    CheckRun.@Nullable Conclusion conclusion();
+  }
+
+  /**
+   * A document representing a check run's details url.
+   *
+   * @since 2.0.0
+   */
+  interface DetailsUrlPartial extends CheckRun.Update, CheckRunPartial {
+    /**
+     * Gets the check run's details url.
+     *
+     * @return the check run details url
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @Nullable String details_url();
+  }
+
+  /**
+   * A document representing a check run's output.
+   *
+   * @since 2.0.0
+   */
+  interface OutputPartial extends CheckRun.Update, CheckRunPartial {
+    /**
+     * Gets the check run's output.
+     *
+     * @return the check run output
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @Nullable Output output();
+  }
+
+  /**
+   * The output of a check run.
+   *
+   * <p>To add annotations, use {@link CheckRun#annotate(String, String, Iterable)}.</p>
+   *
+   * @since 2.0.0
+   */
+  interface Output {
+    /**
+     * Gets the title.
+     *
+     * @return the title
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String title();
+
+    /**
+     * Gets the summary.
+     *
+     * @return the summary
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @NonNull String summary();
+
+    /**
+     * Gets the text.
+     *
+     * @return the text
+     * @since 2.0.0
+     */
+    @JsonProperty
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    default @Nullable String text() {
+      return null;
+    }
+  }
+}
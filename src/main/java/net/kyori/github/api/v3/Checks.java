@@ -0,0 +1,56 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A repository's check runs.
+ *
+ * <p>Check runs can only be created with a GitHub App installation token.</p>
+ *
+ * @since 2.0.0
+ */
+public interface Checks {
+  /**
+   * Gets a check run.
+   *
+   * @param id the check run id
+   * @return the check run
+   * @since 2.0.0
+   */
+  @NonNull CheckRun get(final long id);
+
+  /**
+   * Creates a new check run.
+   *
+   * @param create the creation data
+   * @param <C> the creation data type
+   * @return the new check run
+   * @throws IOException if an exception occurs while creating the check run
+   * @since 2.0.0
+   */
+  <C extends CheckRun.Create> @NonNull CheckRun create(final @NonNull C create) throws IOException;
+}
@@ -23,6 +23,10 @@
  */
 package net.kyori.github.api.v3;
 
+import java.io.IOException;
+import java.time.Instant;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
 /**
  * A comment in an {@link Issue issue}.
  *
@@ -35,5 +39,73 @@ public interface Comment {
    * @return the id
    * @since 2.0.0
    */
-  int id();
+  long id();
+
+  /**
+   * Gets the number of the issue this comment is on.
+   *
+   * @return the issue number
+   * @since 2.0.0
+   */
+  int issue();
+
+  /**
+   * Gets the html url.
+   *
+   * @return the html url
+   * @since 2.0.0
+   */
+  @NonNull String html_url();
+
+  /**
+   * Gets the user who posted this comment.
+   *
+   * @return the user
+   * @since 2.0.0
+   */
+  @NonNull User user();
+
+  /**
+   * Gets the body.
+   *
+   * @return the body
+   * @since 2.0.0
+   */
+  @NonNull String body();
+
+  /**
+   * Gets when this comment was posted.
+   *
+   * @return when this comment was posted
+   * @since 2.0.0
+   */
+  @NonNull Instant createdAt();
+
+  /**
+   * Gets when this comment was last updated.
+   *
+   * @return when this comment was last updated
+   * @since 2.0.0
+   */
+  @NonNull Instant updatedAt();
+
+  /**
+   * Replaces the body of this comment.
+   *
+   * <p>If the body is unchanged, no request is made.</p>
+   *
+   * @param body the new body
+   * @return {@code true} if the body was changed
+   * @throws IOException if an exception occurs while editing the comment
+   * @since 2.0.0
+   */
+  boolean edit(final CommentPartial.@NonNull BodyPartial body) throws IOException;
+
+  /**
+   * Deletes this comment.
+   *
+   * @throws IOException if an exception occurs while deleting the comment
+   * @since 2.0.0
+   */
+  void delete() throws IOException;
 }
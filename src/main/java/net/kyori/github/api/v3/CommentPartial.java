@@ -23,6 +23,8 @@
  */
 package net.kyori.github.api.v3;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Partial documents used during comment creation.
  *
@@ -41,6 +43,7 @@ public interface CommentPartial {
      * @return the body
      * @since 2.0.0
      */
+    @JsonProperty
     String body();
   }
 }
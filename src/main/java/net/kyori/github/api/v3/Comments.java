@@ -24,6 +24,8 @@
 package net.kyori.github.api.v3;
 
 import java.io.IOException;
+import java.time.Instant;
+import net.kyori.github.api.webhook.event.IssueCommentEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -41,4 +43,43 @@ public interface Comments {
    * @since 2.0.0
    */
   @NonNull Comment post(final CommentPartial.@NonNull BodyPartial body) throws IOException;
+
+  /**
+   * Creates or replaces a sticky comment.
+   *
+   * <p>A sticky comment is identified by a key, stored as a hidden marker in its body. The first upsert to an issue
+   * lists its comments to find existing sticky comments. After that, the id of each sticky comment is remembered, and
+   * updating one takes a single request. Pass {@link IssueCommentEvent}s to {@link GitHub#accept(IssueCommentEvent)} to
+   * keep remembered ids current when comments are edited or deleted elsewhere.</p>
+   *
+   * @param key the key identifying the sticky comment on this issue
+   * @param body the body
+   * @return the comment
+   * @throws IOException if an exception occurs while posting the comment
+   * @since 2.0.0
+   */
+  @NonNull Comment upsert(final @NonNull String key, final CommentPartial.@NonNull BodyPartial body) throws IOException;
+
+  /**
+   * Gets all the comments, oldest first.
+   *
+   * <p>Pages are requested as the result is iterated.</p>
+   *
+   * @return all the comments
+   * @throws IOException if an exception occurred while getting the comments
+   * @since 2.0.0
+   */
+  @NonNull Iterable<Comment> all() throws IOException;
+
+  /**
+   * Gets the comments updated at or after a time, oldest first.
+   *
+   * <p>Pages are requested as the result is iterated.</p>
+   *
+   * @param since the time
+   * @return the comments
+   * @throws IOException if an exception occurred while getting the comments
+   * @since 2.0.0
+   */
+  @NonNull Iterable<Comment> all(final @NonNull Instant since) throws IOException;
 }
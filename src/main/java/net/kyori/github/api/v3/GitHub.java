@@ -24,9 +24,15 @@
 package net.kyori.github.api.v3;
 
 import com.google.api.client.http.HttpRequest;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import net.kyori.github.api.v3.auth.AuthorizationSource;
 import net.kyori.github.api.v3.implementation.GitHubImpl;
+import net.kyori.github.api.webhook.event.IssueCommentEvent;
+import net.kyori.github.api.webhook.event.MembershipEvent;
+import net.kyori.github.api.webhook.event.TeamEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -34,7 +40,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  *
  * @since 2.0.0
  */
-public interface GitHub {
+public interface GitHub extends AutoCloseable {
   /**
    * The endpoint for v3 of the GitHub API.
    *
@@ -84,6 +90,88 @@ public interface GitHub {
    */
   @NonNull GitHubApp app();
 
+  /**
+   * Gets search.
+   *
+   * @return search
+   * @since 2.0.0
+   */
+  @NonNull Search search();
+
+  /**
+   * Gets the bytes of responses received so far.
+   *
+   * @return traffic
+   * @since 2.0.0
+   */
+  @NonNull Traffic traffic();
+
+  /**
+   * Gets a view of this API that makes requests with a priority.
+   *
+   * <p>The view shares connections, caches and rate limits with this API. Anything obtained
+   * through the view, such as repositories or a label sync, keeps making requests with its priority.</p>
+   *
+   * @param priority the priority
+   * @return a view with the priority
+   * @since 2.0.0
+   */
+  @NonNull GitHub withPriority(final @NonNull Priority priority);
+
+  /**
+   * Creates a new label sync builder.
+   *
+   * @return a new label sync builder
+   * @since 2.0.0
+   */
+  LabelSync.@NonNull Builder labelSync();
+
+  /**
+   * Creates a new status publisher builder.
+   *
+   * @return a new status publisher builder
+   * @since 2.0.0
+   */
+  StatusPublisher.@NonNull Builder statusPublisher();
+
+  /**
+   * Updates anything remembered about comments with an issue comment webhook event.
+   *
+   * @param event the event
+   * @see Comments#upsert(String, CommentPartial.BodyPartial)
+   * @since 2.0.0
+   */
+  void accept(final @NonNull IssueCommentEvent event);
+
+  /**
+   * Updates anything remembered about team members with a membership webhook event.
+   *
+   * @param event the event
+   * @see Team#member(String)
+   * @since 2.0.0
+   */
+  void accept(final @NonNull MembershipEvent event);
+
+  /**
+   * Updates anything remembered about team members with a team webhook event.
+   *
+   * @param event the event
+   * @see Team#member(String)
+   * @since 2.0.0
+   */
+  void accept(final @NonNull TeamEvent event);
+
+  /**
+   * Releases the connections, and the cache if it was opened by the builder.
+   *
+   * <p>Views with a priority share these, so closing any one of them closes them all.</p>
+   *
+   * @throws IOException if an exception occurs while releasing the connections
+   * @since 2.0.0
+   */
+  @Override
+  void close() throws IOException;
+
   /**
    * A builder for creating instances of the GitHub API.
    *
@@ -108,6 +196,90 @@ public interface GitHub {
      */
     @NonNull Builder http(final @NonNull Consumer<HttpRequest> configurer);
 
+    /**
+     * Sets the cache to revalidate {@code GET} responses against.
+     *
+     * @param cache the cache
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder cache(final @NonNull ResponseCache cache);
+
+    /**
+     * Sets the cache to revalidate {@code GET} responses against to a persistent cache, opened when
+     * the API is built and closed along with it.
+     *
+     * @param directory the directory to store the cache in
+     * @param maxBytes the maximum size of the cache on disk, in bytes
+     * @return the builder
+     * @see ResponseCache#persistent(Path, long)
+     * @since 2.0.0
+     */
+    @NonNull Builder cache(final @NonNull Path directory, final long maxBytes);
+
+    /**
+     * Sets the executor to make parallel requests on.
+     *
+     * <p>If not set, an executor shared by all instances is used. On Java 21 and newer, it runs each
+     * request on a new virtual thread; otherwise it is a cached thread pool.</p>
+     *
+     * @param executor the executor
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder executor(final @NonNull Executor executor);
+
+    /**
+     * Sets if users, label values and frequently repeated strings such as logins and label names
+     * should be shared between responses instead of duplicated. Each response still gets its own
+     * {@link Label}, which makes requests with the priority it was obtained with.
+     *
+     * <p>This saves memory when many issues or pull requests are held on to, at the cost of some
+     * extra work while reading responses. Shared instances are only weakly referenced.</p>
+     *
+     * @param intern if instances should be shared
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder intern(final boolean intern);
+
+    /**
+     * Sets the most requests that may be in flight at once.
+     *
+     * <p>Defaults to {@code 20}.</p>
+     *
+     * @param concurrency the number of requests
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder concurrency(final int concurrency);
+
+    /**
+     * Sets how many of the requests that may be in flight at once are reserved for
+     * {@link Priority#INTERACTIVE interactive} requests.
+     *
+     * <p>Defaults to {@code 4}.</p>
+     *
+     * @param reservedConcurrency the number of requests
+     * @return the builder
+     * @see #concurrency(int)
+     * @since 2.0.0
+     */
+    @NonNull Builder reservedConcurrency(final int reservedConcurrency);
+
+    /**
+     * Sets how much of the rate limit is reserved for {@link Priority#INTERACTIVE interactive} requests.
+     *
+     * <p>Once no more than this many requests remain, {@link Priority#BULK bulk} requests wait for the
+     * rate limit to reset. No more than a tenth of the rate limit is ever reserved, so bulk requests still
+     * get most of a small limit. Defaults to {@code 500}, a tenth of the usual limit.</p>
+     *
+     * @param reservedRateLimit the number of requests
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder reservedRateLimit(final int reservedRateLimit);
+
     /**
      * Sets the api endpoint.
      *
@@ -0,0 +1,219 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.util.List;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.implementation.IssueIndexImpl;
+import net.kyori.github.api.webhook.event.IssuesEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An in-memory index of issues and pull requests across many repositories.
+ *
+ * <p>Indexes are filled from {@link RepositoryMirror mirror} snapshots and issues webhook events, and
+ * answer queries without making any requests. Every filter is backed by a secondary index, so queries
+ * cost time proportional to the number of issues indexed divided by the word size, not to the
+ * number of filters times the number of issues.</p>
+ *
+ * @since 2.0.0
+ */
+public interface IssueIndex {
+  /**
+   * Creates a new, empty index.
+   *
+   * @return a new index
+   * @since 2.0.0
+   */
+  static @NonNull IssueIndex create() {
+    return new IssueIndexImpl();
+  }
+
+  /**
+   * Replaces everything indexed for a repository with the contents of a snapshot.
+   *
+   * @param repository the repository
+   * @param snapshot the snapshot
+   * @since 2.0.0
+   */
+  void update(final @NonNull RepositoryIdentifier repository, final RepositoryMirror.@NonNull Snapshot snapshot);
+
+  /**
+   * Merges an issues webhook event.
+   *
+   * @param event the event
+   * @since 2.0.0
+   */
+  void accept(final @NonNull IssuesEvent event);
+
+  /**
+   * Removes everything indexed for a repository.
+   *
+   * @param repository the repository
+   * @since 2.0.0
+   */
+  void remove(final @NonNull RepositoryIdentifier repository);
+
+  /**
+   * Creates a new query. Filters are combined, and only entries matching all of them are returned.
+   *
+   * @return a new query
+   * @since 2.0.0
+   */
+  @NonNull Query query();
+
+  /**
+   * A query.
+   *
+   * @since 2.0.0
+   */
+  interface Query {
+    /**
+     * Only matches entries in a repository.
+     *
+     * @param repository the repository
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query repository(final @NonNull RepositoryIdentifier repository);
+
+    /**
+     * Only matches entries in repositories owned by a user or organization.
+     *
+     * @param owner the owner
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query owner(final @NonNull String owner);
+
+    /**
+     * Only matches entries in a state.
+     *
+     * @param state the state
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query state(final Issue.@NonNull State state);
+
+    /**
+     * Only matches entries with a label.
+     *
+     * @param label the label name
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query label(final @NonNull String label);
+
+    /**
+     * Only matches entries without a label.
+     *
+     * @param label the label name
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query withoutLabel(final @NonNull String label);
+
+    /**
+     * Only matches entries assigned to a user.
+     *
+     * @param login the login of the user
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query assignee(final @NonNull String login);
+
+    /**
+     * Only matches entries with no assignees.
+     *
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query unassigned();
+
+    /**
+     * Only matches entries in a milestone.
+     *
+     * @param milestone the milestone title
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query milestone(final @NonNull String milestone);
+
+    /**
+     * Only matches entries with no milestone.
+     *
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query noMilestone();
+
+    /**
+     * Only matches pull requests, or only matches issues.
+     *
+     * @param pullRequests {@code true} to only match pull requests, {@code false} to only match issues
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query pullRequests(final boolean pullRequests);
+
+    /**
+     * Counts the matching entries.
+     *
+     * @return the number of matching entries
+     * @since 2.0.0
+     */
+    int count();
+
+    /**
+     * Gets the matching entries.
+     *
+     * @return the matching entries
+     * @since 2.0.0
+     */
+    @NonNull List<Match> matches();
+  }
+
+  /**
+   * An entry matching a query.
+   *
+   * @since 2.0.0
+   */
+  interface Match {
+    /**
+     * Gets the repository.
+     *
+     * @return the repository
+     * @since 2.0.0
+     */
+    @NonNull RepositoryIdentifier repository();
+
+    /**
+     * Gets the number.
+     *
+     * @return the number
+     * @since 2.0.0
+     */
+    int number();
+  }
+}
@@ -24,7 +24,10 @@
 package net.kyori.github.api.v3;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reactivestreams.Publisher;
 
 /**
  * A repository's issues.
@@ -51,4 +54,149 @@ public interface Issues {
    * @since 2.0.0
    */
   <C extends Issue.AbstractCreate> @NonNull Issue create(final @NonNull C create) throws IOException;
+
+  /**
+   * Creates a new query, listing open issues by default.
+   *
+   * <p>Filtering happens on GitHub's side, and listed issues are complete: getting their
+   * properties does not make any further requests. Note that GitHub lists pull requests as issues.</p>
+   *
+   * @return a new query
+   * @since 2.0.0
+   */
+  @NonNull Query query();
+
+  /**
+   * A query for listing issues.
+   *
+   * @since 2.0.0
+   */
+  interface Query {
+    /**
+     * Only lists issues in a state.
+     *
+     * @param state the state
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query state(final Issue.@NonNull State state);
+
+    /**
+     * Lists issues in any state.
+     *
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query anyState();
+
+    /**
+     * Only lists issues with all of the given labels.
+     *
+     * @param labels the label names
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query labels(final @NonNull String... labels);
+
+    /**
+     * Only lists issues assigned to a user.
+     *
+     * <p>{@code none} lists issues with no assignees, and {@code *} lists issues with any assignee.</p>
+     *
+     * @param login the login of the user
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query assignee(final @NonNull String login);
+
+    /**
+     * Only lists issues opened by a user.
+     *
+     * @param login the login of the user
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query creator(final @NonNull String login);
+
+    /**
+     * Only lists issues updated at or after a time.
+     *
+     * @param since the time
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query since(final @NonNull Instant since);
+
+    /**
+     * Sets what to sort issues by.
+     *
+     * @param sort what to sort by
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query sort(final @NonNull Sort sort);
+
+    /**
+     * Sets the direction to sort issues in.
+     *
+     * @param direction the direction
+     * @return the query
+     * @since 2.0.0
+     */
+    @NonNull Query direction(final @NonNull Direction direction);
+
+    /**
+     * Lists the matching issues.
+     *
+     * <p>Pages are requested as the result is iterated.</p>
+     *
+     * @return the matching issues
+     * @throws IOException if an exception occurs while listing issues
+     * @since 2.0.0
+     */
+    @NonNull Iterable<Issue> all() throws IOException;
+
+    /**
+     * Streams the matching issues.
+     *
+     * <p>Pages are requested as the stream is consumed.</p>
+     *
+     * @return the matching issues
+     * @throws IOException if an exception occurs while listing issues
+     * @since 2.0.0
+     */
+    @NonNull Stream<Issue> stream() throws IOException;
+
+    /**
+     * Publishes the matching issues.
+     *
+     * <p>Each subscriber gets its own listing. The next page is only requested once demanded, and cancelling stops
+     * any further pages from being requested.</p>
+     *
+     * @return a publisher of the matching issues
+     * @since 2.0.0
+     */
+    @NonNull Publisher<Issue> publisher();
+
+    /**
+     * What to sort issues by.
+     *
+     * @since 2.0.0
+     */
+    enum Sort {
+      CREATED,
+      UPDATED,
+      COMMENTS;
+    }
+
+    /**
+     * A sort direction.
+     *
+     * @since 2.0.0
+     */
+    enum Direction {
+      ASC,
+      DESC;
+    }
+  }
 }
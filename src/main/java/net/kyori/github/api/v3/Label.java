@@ -67,12 +67,16 @@ public interface Label {
   /**
    * Submits an edit to the label.
    *
+   * <p>Only fields that differ from the last known state of the label are sent. If none do, the state is
+   * fetched again before deciding the edit is a no-op, so changes made elsewhere aren't mistaken for it.</p>
+   *
    * @param edit the edit
    * @param <E> the edit type
+   * @return {@code true} if anything was changed, {@code false} if the edit matched the current state
    * @throws IOException if an exception occurs during edit
    * @since 2.0.0
    */
-  <E extends Edit> void edit(final @NonNull E edit) throws IOException;
+  <E extends Edit> boolean edit(final @NonNull E edit) throws IOException;
 
   /**
    * Deletes the label.
@@ -0,0 +1,245 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import net.kyori.github.api.RepositoryIdentifier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Reconciles the labels of many repositories with a single desired set of labels.
+ *
+ * <p>Planning loads the labels of every repository once, and works out the fewest changes that bring
+ * each repository in line. Plans can be inspected without being applied.</p>
+ *
+ * @since 2.0.0
+ */
+public interface LabelSync {
+  /**
+   * Plans the changes needed to bring repositories in line with the desired labels.
+   *
+   * @param repositories the repositories
+   * @return the plan
+   * @throws IOException if an exception occurs while loading labels
+   * @since 2.0.0
+   */
+  @NonNull Plan plan(final @NonNull Iterable<? extends RepositoryIdentifier> repositories) throws IOException;
+
+  /**
+   * A builder for creating label syncs.
+   *
+   * @since 2.0.0
+   */
+  interface Builder {
+    /**
+     * Adds a desired label.
+     *
+     * @param name the name
+     * @param color the color, as a hex string without a leading {@code #}
+     * @param description the description
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder label(final @NonNull String name, final @NonNull String color, final @NonNull String description);
+
+    /**
+     * Renames a label, keeping it on the issues it is already on.
+     *
+     * <p>Labels named {@code from} are renamed to {@code to} when a repository has no label named {@code to} yet.</p>
+     *
+     * @param from the old name
+     * @param to the new name, which must be a desired label
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder rename(final @NonNull String from, final @NonNull String to);
+
+    /**
+     * Sets if labels that are not desired are deleted. Defaults to {@code false}.
+     *
+     * @param deleteUnknown if labels that are not desired are deleted
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder deleteUnknown(final boolean deleteUnknown);
+
+    /**
+     * Sets how many repositories are loaded or changed at once. Defaults to {@code 4}.
+     *
+     * @param parallelism the number of repositories
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder parallelism(final int parallelism);
+
+    /**
+     * Sets the most changes a single {@link Plan#apply()} may make. Unlimited by default.
+     *
+     * <p>The budget only covers the changes, which are all writes. The requests {@link LabelSync#plan(Iterable)}
+     * makes to list each repository's labels are not counted against it.</p>
+     *
+     * @param requestBudget the number of changes
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder requestBudget(final int requestBudget);
+
+    /**
+     * Builds.
+     *
+     * @return the label sync
+     * @since 2.0.0
+     */
+    @NonNull LabelSync build();
+  }
+
+  /**
+   * The changes needed to bring repositories in line.
+   *
+   * @since 2.0.0
+   */
+  interface Plan {
+    /**
+     * Gets the changes.
+     *
+     * @return the changes
+     * @since 2.0.0
+     */
+    @NonNull List<Change> changes();
+
+    /**
+     * Applies the changes.
+     *
+     * <p>Once the request budget is spent, remaining changes are skipped. If a change fails, the
+     * rest of the changes to its repository are skipped, but other repositories carry on.</p>
+     *
+     * @return the changes that were applied
+     * @throws ApplyException if an exception occurs while applying changes, holding the changes that were applied
+     * @since 2.0.0
+     */
+    @NonNull List<Change> apply() throws IOException;
+  }
+
+  /**
+   * Thrown when some changes in a plan could not be applied.
+   *
+   * <p>The cause is the first failure, with any further ones suppressed.</p>
+   *
+   * @since 2.0.0
+   */
+  final class ApplyException extends IOException {
+    private static final long serialVersionUID = 1L;
+    private final transient List<Change> applied;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param applied the changes that were applied
+     * @param cause the first failure
+     * @since 2.0.0
+     */
+    public ApplyException(final @NonNull List<Change> applied, final @NonNull Throwable cause) {
+      super("Could not apply every label change", cause);
+      this.applied = applied;
+    }
+
+    /**
+     * Gets the changes that were applied before and alongside the failures.
+     *
+     * @return the changes that were applied
+     * @since 2.0.0
+     */
+    public @NonNull List<Change> applied() {
+      return this.applied;
+    }
+  }
+
+  /**
+   * A change to a label. Each change takes one request.
+   *
+   * @since 2.0.0
+   */
+  interface Change {
+    /**
+     * Gets the repository.
+     *
+     * @return the repository
+     * @since 2.0.0
+     */
+    @NonNull RepositoryIdentifier repository();
+
+    /**
+     * Gets the action.
+     *
+     * @return the action
+     * @since 2.0.0
+     */
+    @NonNull Action action();
+
+    /**
+     * Gets the name of the label, as it is before the change.
+     *
+     * @return the name
+     * @since 2.0.0
+     */
+    @NonNull String name();
+
+    /**
+     * Gets the new name, if the change renames the label.
+     *
+     * @return the new name
+     * @since 2.0.0
+     */
+    @NonNull Optional<String> newName();
+
+    /**
+     * Gets the new color, if the change sets the color.
+     *
+     * @return the new color
+     * @since 2.0.0
+     */
+    @NonNull Optional<String> color();
+
+    /**
+     * Gets the new description, if the change sets the description.
+     *
+     * @return the new description
+     * @since 2.0.0
+     */
+    @NonNull Optional<String> description();
+
+    /**
+     * An action.
+     *
+     * @since 2.0.0
+     */
+    enum Action {
+      CREATE,
+      UPDATE,
+      DELETE;
+    }
+  }
+}
@@ -25,6 +25,7 @@ package net.kyori.github.api.v3;
 
 import java.io.IOException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reactivestreams.Publisher;
 
 /**
  * Labels.
@@ -40,4 +41,15 @@ public interface Labels {
    * @since 2.0.0
    */
   @NonNull Iterable<Label> all() throws IOException;
+
+  /**
+   * Publishes all the labels.
+   *
+   * <p>Each subscriber gets its own listing. The next page is only requested once demanded, and cancelling stops
+   * any further pages from being requested.</p>
+   *
+   * @return a publisher of all the labels
+   * @since 2.0.0
+   */
+  @NonNull Publisher<Label> publisher();
 }
@@ -0,0 +1,50 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+/**
+ * The priority requests are made with.
+ *
+ * @see GitHub#withPriority(Priority)
+ * @since 2.0.0
+ */
+public enum Priority {
+  /**
+   * Requests something is waiting on, such as posting a status or replying to a command.
+   *
+   * <p>Interactive requests may use every connection and all of the rate limit.</p>
+   *
+   * @since 2.0.0
+   */
+  INTERACTIVE,
+  /**
+   * Requests made in bulk, such as syncing labels or backfilling a mirror.
+   *
+   * <p>Bulk requests only use the connections and rate limit left over once the reserve for
+   * interactive requests is set aside.</p>
+   *
+   * @since 2.0.0
+   */
+  BULK;
+}
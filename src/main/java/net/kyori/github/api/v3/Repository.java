@@ -31,6 +31,14 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * @since 2.0.0
  */
 public interface Repository {
+  /**
+   * Gets check runs.
+   *
+   * @return check runs
+   * @since 2.0.0
+   */
+  @NonNull Checks checks();
+
   /**
    * Gets collaborators.
    *
@@ -39,6 +47,14 @@ public interface Repository {
    */
   @NonNull Collaborators collaborators();
 
+  /**
+   * Gets the comments on all issues and pull requests.
+   *
+   * @return comments
+   * @since 2.0.0
+   */
+  @NonNull RepositoryComments comments();
+
   /**
    * Gets issues.
    *
@@ -70,4 +86,12 @@ public interface Repository {
    * @since 2.0.0
    */
   @NonNull Statuses statuses();
+
+  /**
+   * Creates a new, empty mirror of this repository.
+   *
+   * @return a new mirror
+   * @since 2.0.0
+   */
+  @NonNull RepositoryMirror mirror();
 }
@@ -0,0 +1,59 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The comments on all of a {@link Repository repository}'s issues and pull requests.
+ *
+ * @since 2.0.0
+ */
+public interface RepositoryComments {
+  /**
+   * Gets all the comments, least recently updated first.
+   *
+   * <p>Pages are requested as the result is iterated.</p>
+   *
+   * @return all the comments
+   * @throws IOException if an exception occurred while getting the comments
+   * @since 2.0.0
+   */
+  @NonNull Iterable<Comment> all() throws IOException;
+
+  /**
+   * Gets the comments updated at or after a time, least recently updated first.
+   *
+   * <p>Polling with the {@link Comment#updatedAt() update time} of the last comment seen keeps comments
+   * current with a request per page of changes.</p>
+   *
+   * @param since the time
+   * @return the comments
+   * @throws IOException if an exception occurred while getting the comments
+   * @since 2.0.0
+   */
+  @NonNull Iterable<Comment> all(final @NonNull Instant since) throws IOException;
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import net.kyori.github.api.webhook.event.IssuesEvent;
+import net.kyori.github.api.webhook.event.PullRequestEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A local mirror of the issues, pull requests, and labels of a repository.
+ *
+ * <p>The first {@link #sync()} loads everything. Later syncs only request issues and pull requests
+ * updated since the newest update already seen, so keeping a mirror current costs requests proportional
+ * to the number of changes rather than to the size of the repository. Webhook events can be merged in
+ * between syncs - whichever of a sync or an event carries the most recent update wins.</p>
+ *
+ * <p>Issues that are deleted or transferred away are only removed when the corresponding
+ * {@link IssuesEvent} is {@link #accept(IssuesEvent) accepted}, as they no longer appear in listings.</p>
+ *
+ * @since 2.0.0
+ */
+public interface RepositoryMirror {
+  /**
+   * Fetches everything that changed since the last sync.
+   *
+   * <p>Changes are applied all at once, after everything has been fetched.</p>
+   *
+   * @throws IOException if an exception occurs while fetching changes
+   * @since 2.0.0
+   */
+  void sync() throws IOException;
+
+  /**
+   * Merges an issues webhook event.
+   *
+   * @param event the event
+   * @since 2.0.0
+   */
+  void accept(final @NonNull IssuesEvent event);
+
+  /**
+   * Merges a pull request webhook event.
+   *
+   * @param event the event
+   * @since 2.0.0
+   */
+  void accept(final @NonNull PullRequestEvent event);
+
+  /**
+   * Gets a consistent snapshot of the mirror.
+   *
+   * <p>Snapshots are immutable, and are only rebuilt after the mirror changes.</p>
+   *
+   * @return the snapshot
+   * @since 2.0.0
+   */
+  @NonNull Snapshot snapshot();
+
+  /**
+   * An immutable snapshot of a mirror.
+   *
+   * @since 2.0.0
+   */
+  interface Snapshot {
+    /**
+     * Gets when the last successful sync started.
+     *
+     * @return when the last sync started, if the mirror has been synced
+     * @since 2.0.0
+     */
+    @NonNull Optional<Instant> syncedAt();
+
+    /**
+     * Gets the issues and pull requests.
+     *
+     * @return the issues and pull requests, by number
+     * @since 2.0.0
+     */
+    @NonNull Map<Integer, Entry> issues();
+
+    /**
+     * Gets the labels.
+     *
+     * @return the labels, by name
+     * @since 2.0.0
+     */
+    @NonNull Map<String, Label> labels();
+  }
+
+  /**
+   * A mirrored issue or pull request.
+   *
+   * @since 2.0.0
+   */
+  interface Entry {
+    /**
+     * Gets the number.
+     *
+     * @return the number
+     * @since 2.0.0
+     */
+    int number();
+
+    /**
+     * Gets the title.
+     *
+     * @return the title
+     * @since 2.0.0
+     */
+    @NonNull String title();
+
+    /**
+     * Gets the body.
+     *
+     * @return the body
+     * @since 2.0.0
+     */
+    @NonNull String body();
+
+    /**
+     * Gets the state.
+     *
+     * @return the state
+     * @since 2.0.0
+     */
+    Issue.@NonNull State state();
+
+    /**
+     * Gets the login of the user who opened this entry.
+     *
+     * @return the login
+     * @since 2.0.0
+     */
+    @NonNull String user();
+
+    /**
+     * Gets the names of the labels.
+     *
+     * @return the label names
+     * @since 2.0.0
+     */
+    @NonNull Set<String> labels();
+
+    /**
+     * Gets the logins of the assignees.
+     *
+     * @return the assignee logins
+     * @since 2.0.0
+     */
+    @NonNull Set<String> assignees();
+
+    /**
+     * Gets the title of the milestone.
+     *
+     * @return the milestone title, if there is a milestone
+     * @since 2.0.0
+     */
+    @NonNull Optional<String> milestone();
+
+    /**
+     * Gets if this entry is a pull request.
+     *
+     * @return {@code true} if this entry is a pull request
+     * @since 2.0.0
+     */
+    boolean pullRequest();
+
+    /**
+     * Gets when this entry was last updated.
+     *
+     * @return when this entry was last updated
+     * @since 2.0.0
+     */
+    @NonNull Instant updatedAt();
+  }
+}
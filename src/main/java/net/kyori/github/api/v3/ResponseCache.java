@@ -0,0 +1,139 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import net.kyori.github.api.v3.implementation.MappedResponseCache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache of responses to {@code GET} requests.
+ *
+ * <p>Cached responses are revalidated with {@code If-None-Match} on every request. Unchanged
+ * resources are answered with a {@code 304 Not Modified}, which does not count against the
+ * rate limit, and the cached body is used instead.</p>
+ *
+ * @since 2.0.0
+ */
+public interface ResponseCache extends AutoCloseable {
+  /**
+   * Opens a persistent cache stored in memory-mapped segment files in {@code directory}.
+   *
+   * <p>Entries written by a previous run are available immediately. When the cache grows
+   * beyond {@code maxBytes}, the least recently used entries are evicted. The cache should be
+   * closed once it is no longer used.</p>
+   *
+   * @param directory the directory to store the cache in
+   * @param maxBytes the maximum size of the cache on disk, in bytes
+   * @return the cache
+   * @throws IOException if an exception occurs while opening the cache
+   * @since 2.0.0
+   */
+  static @NonNull ResponseCache persistent(final @NonNull Path directory, final long maxBytes) throws IOException {
+    return MappedResponseCache.open(directory, maxBytes);
+  }
+
+  /**
+   * Gets a cached response.
+   *
+   * @param url the request url
+   * @return the cached response, or {@code null}
+   * @since 2.0.0
+   */
+  @Nullable Entry get(final @NonNull String url);
+
+  /**
+   * Caches a response.
+   *
+   * @param url the request url
+   * @param entry the response
+   * @since 2.0.0
+   */
+  void put(final @NonNull String url, final @NonNull Entry entry);
+
+  /**
+   * Writes any cached responses held in memory through to storage.
+   *
+   * @since 2.0.0
+   */
+  default void force() {
+  }
+
+  /**
+   * Writes any cached responses held in memory through to storage, and releases the cache.
+   *
+   * <p>A closed cache no longer returns or stores responses.</p>
+   *
+   * @since 2.0.0
+   */
+  @Override
+  default void close() {
+  }
+
+  /**
+   * A cached response.
+   *
+   * @since 2.0.0
+   */
+  interface Entry {
+    /**
+     * Creates a new entry.
+     *
+     * @param etag the {@code ETag} header value
+     * @param link the {@code Link} header value
+     * @param body the body
+     * @return the entry
+     * @since 2.0.0
+     */
+    static @NonNull Entry of(final @NonNull String etag, final @Nullable String link, final byte @NonNull [] body) {
+      return new MappedResponseCache.EntryImpl(etag, link, body);
+    }
+
+    /**
+     * Gets the {@code ETag} header value.
+     *
+     * @return the {@code ETag} header value
+     * @since 2.0.0
+     */
+    @NonNull String etag();
+
+    /**
+     * Gets the {@code Link} header value.
+     *
+     * @return the {@code Link} header value
+     * @since 2.0.0
+     */
+    @Nullable String link();
+
+    /**
+     * Gets the body.
+     *
+     * @return the body
+     * @since 2.0.0
+     */
+    byte @NonNull [] body();
+  }
+}
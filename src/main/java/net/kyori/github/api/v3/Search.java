@@ -0,0 +1,118 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+import net.kyori.github.api.RepositoryIdentifier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Search.
+ *
+ * <p>Search requests are limited to GitHub's search rate of 30 requests per minute, separately from
+ * all other requests.</p>
+ *
+ * <p>GitHub returns at most 1000 results for any search. When an issue or pull request search matches
+ * more than that, it is split into searches over ranges of creation dates that each match fewer, which
+ * are then run in parallel. Queries that already filter on {@code created:} are not split.</p>
+ *
+ * @since 2.0.0
+ */
+public interface Search {
+  /**
+   * Searches issues and pull requests.
+   *
+   * <p>Results are complete: getting their properties does not make any further requests.</p>
+   *
+   * @param query the search query
+   * @return the matching issues and pull requests
+   * @throws IOException if an exception occurs while searching
+   * @since 2.0.0
+   */
+  @NonNull Stream<Issue> issues(final @NonNull String query) throws IOException;
+
+  /**
+   * Searches pull requests.
+   *
+   * <p>Only the number of each result is known up front. Other properties are fetched when first used.</p>
+   *
+   * @param query the search query, without {@code is:pr}
+   * @return the matching pull requests
+   * @throws IOException if an exception occurs while searching
+   * @since 2.0.0
+   */
+  @NonNull Stream<PullRequest> pullRequests(final @NonNull String query) throws IOException;
+
+  /**
+   * Searches code.
+   *
+   * <p>Code searches cannot be split, so are limited to the first 1000 results.</p>
+   *
+   * @param query the search query
+   * @return the matching code
+   * @throws IOException if an exception occurs while searching
+   * @since 2.0.0
+   */
+  @NonNull Stream<Code> code(final @NonNull String query) throws IOException;
+
+  /**
+   * A file matching a code search.
+   *
+   * @since 2.0.0
+   */
+  interface Code {
+    /**
+     * Gets the repository.
+     *
+     * @return the repository
+     * @since 2.0.0
+     */
+    @NonNull RepositoryIdentifier repository();
+
+    /**
+     * Gets the path of the file.
+     *
+     * @return the path
+     * @since 2.0.0
+     */
+    @NonNull String path();
+
+    /**
+     * Gets the blob sha of the file.
+     *
+     * @return the sha
+     * @since 2.0.0
+     */
+    @NonNull String sha();
+
+    /**
+     * Gets the html url.
+     *
+     * @return the html url
+     * @since 2.0.0
+     */
+    @NonNull String html_url();
+  }
+}
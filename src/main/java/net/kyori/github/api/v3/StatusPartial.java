@@ -23,6 +23,7 @@
  */
 package net.kyori.github.api.v3;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -43,6 +44,7 @@ public interface StatusPartial {
      * @return the status state
      * @since 2.0.0
      */
+    @JsonProperty
     Status.@Nullable State state();
   }
 
@@ -58,6 +60,7 @@ public interface StatusPartial {
      * @return the status target url
      * @since 2.0.0
      */
+    @JsonProperty
     @Nullable String target_url();
   }
 
@@ -73,6 +76,7 @@ public interface StatusPartial {
      * @return the status description
      * @since 2.0.0
      */
+    @JsonProperty
     @Nullable String description();
   }
 
@@ -88,6 +92,7 @@ public interface StatusPartial {
      * @return the status context
      * @since 2.0.0
      */
+    @JsonProperty
     @Nullable String context();
   }
 }
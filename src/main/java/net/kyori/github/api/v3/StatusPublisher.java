@@ -0,0 +1,106 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import net.kyori.github.api.RepositoryIdentifier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Publishes commit statuses, coalescing rapid updates.
+ *
+ * <p>Updates to the same repository, commit, and context within the window are coalesced, and only the
+ * last one is published. A status identical to the last one published for its context is not published
+ * again.</p>
+ *
+ * @since 2.0.0
+ */
+public interface StatusPublisher extends AutoCloseable {
+  /**
+   * Queues a status to be published once the window has passed.
+   *
+   * @param repository the repository
+   * @param sha the commit sha
+   * @param status the status
+   * @param <C> the status type
+   * @since 2.0.0
+   */
+  <C extends Status.AbstractCreate> void publish(final @NonNull RepositoryIdentifier repository, final @NonNull String sha, final @NonNull C status);
+
+  /**
+   * Publishes all queued statuses now.
+   *
+   * <p>Every status is attempted, even if publishing an earlier one fails.</p>
+   *
+   * @throws IOException if an exception occurs while publishing a status, with any further ones suppressed
+   * @since 2.0.0
+   */
+  void flush() throws IOException;
+
+  /**
+   * Publishes all queued statuses, and stops accepting new ones.
+   *
+   * @throws IOException if an exception occurs while publishing a status
+   * @since 2.0.0
+   */
+  @Override
+  void close() throws IOException;
+
+  /**
+   * A builder for creating status publishers.
+   *
+   * @since 2.0.0
+   */
+  interface Builder {
+    /**
+     * Sets how long updates are coalesced for. Defaults to 5 seconds.
+     *
+     * @param window the window
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder window(final @NonNull Duration window);
+
+    /**
+     * Sets the executor to publish statuses on.
+     *
+     * <p>If not set, an executor shared by all publishers is used, which uses virtual threads on Java 21 and newer.</p>
+     *
+     * @param scheduler the executor
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder scheduler(final @NonNull ScheduledExecutorService scheduler);
+
+    /**
+     * Builds.
+     *
+     * @return the status publisher
+     * @since 2.0.0
+     */
+    @NonNull StatusPublisher build();
+  }
+}
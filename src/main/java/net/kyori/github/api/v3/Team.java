@@ -25,6 +25,7 @@ package net.kyori.github.api.v3;
 
 import java.io.IOException;
 import java.util.List;
+import net.kyori.github.api.webhook.event.MembershipEvent;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -41,4 +42,17 @@ public interface Team {
    * @since 2.0.0
    */
   @NonNull List<User> members() throws IOException;
+
+  /**
+   * Checks if a user is a member of the team, including through child teams.
+   *
+   * <p>Members are remembered, so most checks do not make a request.</p>
+   *
+   * @param login the user's login
+   * @return {@code true} if the user is a member
+   * @throws IOException if an exception occurred while retrieving team members
+   * @see GitHub#accept(MembershipEvent)
+   * @since 2.0.0
+   */
+  boolean member(final @NonNull String login) throws IOException;
 }
@@ -23,6 +23,8 @@
  */
 package net.kyori.github.api.v3;
 
+import java.io.IOException;
+import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -34,9 +36,25 @@ public interface Users {
   /**
    * Gets a user.
    *
+   * <p>The user's profile is only retrieved when first needed, so getting a user to pass around
+   * by login is free.</p>
+   *
    * @param login the user login
    * @return the user
    * @since 2.0.0
    */
   @NonNull User get(final @NonNull String login);
+
+  /**
+   * Gets many users, retrieving their profiles up front.
+   *
+   * <p>Profiles are retrieved a few at a time, and are remembered for a while, so resolving the same
+   * users again is cheap. Users that do not exist are left out of the result.</p>
+   *
+   * @param logins the user logins
+   * @return the users, by login
+   * @throws IOException if an exception occurs while retrieving profiles
+   * @since 2.0.0
+   */
+  @NonNull Map<String, User> resolve(final @NonNull Iterable<String> logins) throws IOException;
 }
@@ -38,4 +38,19 @@ public interface AuthorizationSource {
    * @since 2.0.0
    */
   @NonNull String get();
+
+  /**
+   * Notifies this source that the server rejected a request made with {@code value}.
+   *
+   * <p>Sources that are able to obtain fresh credentials should discard {@code value} and
+   * return {@code true} once a different value is available from {@link #get()}, allowing
+   * the request to be retried once.</p>
+   *
+   * @param value the rejected {@code Authorization} header value
+   * @return {@code true} if the request should be retried with a new value
+   * @since 2.0.0
+   */
+  default boolean rejected(final @NonNull String value) {
+    return false;
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import net.kyori.github.api.v3.Installations;
+import net.kyori.github.api.v3.auth.implementation.GitHubAppInstallationTokenManager;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Manages access tokens for many installations of a GitHub App.
+ *
+ * <p>All installations share a single refresh executor. Tokens are created lazily on first use,
+ * refreshed ahead of expiry only while an installation is being used, and discarded once an
+ * installation has been idle for longer than the configured idle timeout.</p>
+ *
+ * @since 2.0.0
+ */
+public interface InstallationTokenManager extends AutoCloseable {
+  /**
+   * Creates a new builder.
+   *
+   * @param installations the installations to get access tokens from
+   * @return a new builder
+   * @since 2.0.0
+   */
+  static @NonNull Builder builder(final @NonNull Installations installations) {
+    return new GitHubAppInstallationTokenManager.BuilderImpl(installations);
+  }
+
+  /**
+   * Gets a token-based authorization source for an installation.
+   *
+   * <p>Obtaining a source is cheap, and does not create an access token until the source is first used.</p>
+   *
+   * @param id the id of the installation
+   * @return the authorization source
+   * @since 2.0.0
+   */
+  @NonNull TokenAuthorizationSource forInstallation(final int id);
+
+  /**
+   * Stops refreshing tokens and discards all tokens held by this manager.
+   *
+   * @since 2.0.0
+   */
+  @Override
+  void close();
+
+  /**
+   * A builder for creating installation token managers.
+   *
+   * @since 2.0.0
+   */
+  interface Builder {
+    /**
+     * Sets the executor to schedule refresh tasks on.
+     *
+     * <p>The executor only times refreshes - tokens are created on the {@link #mintExecutor(Executor) mint executor}.
+     * If not set, an executor shared by all managers is used, which uses virtual threads on Java 21 and newer.</p>
+     *
+     * @param refreshExecutor the executor
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder refreshExecutor(final @NonNull ScheduledExecutorService refreshExecutor);
+
+    /**
+     * Sets the executor to create tokens on when refreshing ahead of expiry.
+     *
+     * <p>A token nobody has yet is created on the thread that needs it instead. If not set, a bounded executor
+     * shared by all managers is used.</p>
+     *
+     * @param mintExecutor the executor
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder mintExecutor(final @NonNull Executor mintExecutor);
+
+    /**
+     * Sets how long before expiry a token of an active installation is refreshed.
+     *
+     * @param refreshAhead the duration
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder refreshAhead(final @NonNull Duration refreshAhead);
+
+    /**
+     * Sets how long an installation may go unused before its token is discarded.
+     *
+     * @param idleTimeout the duration
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder idleTimeout(final @NonNull Duration idleTimeout);
+
+    /**
+     * Sets the store to persist tokens to.
+     *
+     * <p>Stored tokens are loaded when the manager is built, and reused instead of creating new tokens
+     * for as long as they remain valid for longer than the {@link #storeMargin(Duration) store margin}.
+     * If the store can't be loaded, such as when it is corrupt or encrypted with a different key,
+     * {@link #build()} throws an {@link java.io.UncheckedIOException} instead of overwriting it.</p>
+     *
+     * @param store the store
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder store(final @NonNull InstallationTokenStore store);
+
+    /**
+     * Sets how long a stored token must remain valid for to be reused.
+     *
+     * @param storeMargin the duration
+     * @return the builder
+     * @since 2.0.0
+     */
+    @NonNull Builder storeMargin(final @NonNull Duration storeMargin);
+
+    /**
+     * Builds.
+     *
+     * @return the installation token manager
+     * @since 2.0.0
+     */
+    @NonNull InstallationTokenManager build();
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import net.kyori.github.api.v3.Installation;
+import net.kyori.github.api.v3.auth.implementation.EncryptedFileInstallationTokenStore;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A persistent store of installation access tokens.
+ *
+ * <p>Stores allow an {@link InstallationTokenManager} to reuse tokens that are still valid after a restart,
+ * instead of creating new ones for every installation.</p>
+ *
+ * @since 2.0.0
+ */
+public interface InstallationTokenStore {
+  /**
+   * Creates a store that keeps tokens in a file, encrypted with AES-GCM.
+   *
+   * <p>The file is replaced atomically on every save.</p>
+   *
+   * @param file the file
+   * @param key the AES key to encrypt the file with
+   * @return the new store
+   * @since 2.0.0
+   */
+  static @NonNull InstallationTokenStore encryptedFile(final @NonNull Path file, final @NonNull SecretKey key) {
+    return new EncryptedFileInstallationTokenStore(file, key);
+  }
+
+  /**
+   * Loads the stored tokens.
+   *
+   * @return the stored tokens, by installation id
+   * @throws IOException if an exception occurs while loading the tokens
+   * @since 2.0.0
+   */
+  @NonNull Map<Integer, Installation.AccessToken> load() throws IOException;
+
+  /**
+   * Saves tokens, replacing any previously stored tokens.
+   *
+   * @param tokens the tokens, by installation id
+   * @throws IOException if an exception occurs while saving the tokens
+   * @since 2.0.0
+   */
+  void save(final @NonNull Map<Integer, Installation.AccessToken> tokens) throws IOException;
+}
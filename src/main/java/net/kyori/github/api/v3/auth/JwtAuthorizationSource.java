@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import net.kyori.github.api.v3.auth.implementation.GitHubAppJwtAuthorizationSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -36,6 +37,13 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * @since 2.0.0
  */
 public interface JwtAuthorizationSource extends AuthorizationSource {
+  /**
+   * The prefix of {@code Authorization} header values for JWTs.
+   *
+   * @since 2.0.0
+   */
+  String PREFIX = "Bearer ";
+
   /**
    * Creates a new JWT-based authorization source for a GitHub App.
    *
@@ -65,7 +73,18 @@ public interface JwtAuthorizationSource extends AuthorizationSource {
 
   @Override
   default @NonNull String get() {
-    return "Bearer " + this.currentJwt();
+    return PREFIX + this.currentJwt();
+  }
+
+  /**
+   * Notifies this source of the server's current time, as reported by a response.
+   *
+   * <p>Sources may use this to correct for clock skew when issuing JWTs.</p>
+   *
+   * @param serverTime the server's current time
+   * @since 2.0.0
+   */
+  default void serverTime(final @NonNull Instant serverTime) {
   }
 
   /**
@@ -23,12 +23,11 @@
  */
 package net.kyori.github.api.v3.auth;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import net.kyori.github.api.v3.Installation;
 import net.kyori.github.api.v3.auth.implementation.GitHubAppInstallationTokenAuthorizationSource;
+import net.kyori.github.api.v3.auth.implementation.GitHubAppInstallationTokenManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -37,6 +36,13 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * @since 2.0.0
  */
 public interface TokenAuthorizationSource extends AuthorizationSource {
+  /**
+   * The prefix of {@code Authorization} header values for tokens.
+   *
+   * @since 2.0.0
+   */
+  String PREFIX = "token ";
+
   /**
    * Create a token-based authorization source from a token supplier.
    *
@@ -45,7 +51,18 @@ public interface TokenAuthorizationSource extends AuthorizationSource {
    * @since 2.0.0
    */
   static @NonNull TokenAuthorizationSource of(final @NonNull String token) {
-    return () -> token;
+    final String header = PREFIX + token;
+    return new TokenAuthorizationSource() {
+      @Override
+      public @NonNull String get() {
+        return header;
+      }
+
+      @Override
+      public @NonNull String currentToken() {
+        return token;
+      }
+    };
   }
 
   /**
@@ -65,17 +82,16 @@ public interface TokenAuthorizationSource extends AuthorizationSource {
    * <p>The installation must be part of a GitHub-App-authorized instance.</p>
    *
    * <p>This is equivalent to calling {@link #forInstallation(Installation, ScheduledExecutorService)} with
-   * a brand new single-threaded {@link ScheduledExecutorService}.</p>
+   * a {@link ScheduledExecutorService} shared by all installations.</p>
+   *
+   * <p>Applications working with many installations should prefer an {@link InstallationTokenManager}.</p>
    *
    * @param installation the installation to get access tokens from
    * @return the new authentication source
    * @since 2.0.0
    */
   static @NonNull TokenAuthorizationSource forInstallation(final @NonNull Installation installation) {
-    final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(
-      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("igloo-installation-token-refresh-%d").build()
-    );
-    return forInstallation(installation, refreshExecutor);
+    return forInstallation(installation, GitHubAppInstallationTokenManager.sharedRefreshExecutor());
   }
 
   /**
@@ -97,7 +113,7 @@ public interface TokenAuthorizationSource extends AuthorizationSource {
 
   @Override
   default @NonNull String get() {
-    return "token " + this.currentToken();
+    return PREFIX + this.currentToken();
   }
 
   /**
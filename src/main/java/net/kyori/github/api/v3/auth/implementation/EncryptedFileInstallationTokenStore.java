@@ -0,0 +1,189 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth.implementation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import net.kyori.github.api.v3.Installation;
+import net.kyori.github.api.v3.auth.InstallationTokenStore;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An installation token store backed by an AES-GCM encrypted file.
+ *
+ * @since 2.0.0
+ */
+public final class EncryptedFileInstallationTokenStore implements InstallationTokenStore {
+  private static final int MAGIC = 0x49475443; // IGTC
+  private static final int VERSION = 1;
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_LENGTH_BITS = 128;
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private final Path file;
+  private final SecretKey key;
+
+  /**
+   * Creates a new encrypted file installation token store.
+   *
+   * @param file the file
+   * @param key the AES key to encrypt the file with
+   * @since 2.0.0
+   */
+  public EncryptedFileInstallationTokenStore(final Path file, final SecretKey key) {
+    this.file = file;
+    this.key = key;
+  }
+
+  @Override
+  public @NonNull Map<Integer, Installation.AccessToken> load() throws IOException {
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(this.file);
+    } catch (final NoSuchFileException e) {
+      return new HashMap<>();
+    }
+    try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+        throw new IOException("Unrecognized token store " + this.file);
+      }
+      final byte[] iv = new byte[IV_LENGTH];
+      in.readFully(iv);
+      final int headerLength = Integer.BYTES + 1 + IV_LENGTH;
+      final byte[] plain = this.cipher(Cipher.DECRYPT_MODE, iv).doFinal(bytes, headerLength, bytes.length - headerLength);
+      try (final DataInputStream tokens = new DataInputStream(new ByteArrayInputStream(plain))) {
+        final int count = tokens.readInt();
+        final Map<Integer, Installation.AccessToken> result = new HashMap<>(count);
+        for (int i = 0; i < count; i++) {
+          final int id = tokens.readInt();
+          result.put(id, new StoredAccessToken(tokens.readUTF(), Instant.ofEpochMilli(tokens.readLong())));
+        }
+        return result;
+      }
+    } catch (final GeneralSecurityException e) {
+      throw new IOException("Could not decrypt token store " + this.file, e);
+    }
+  }
+
+  @Override
+  public void save(final @NonNull Map<Integer, Installation.AccessToken> tokens) throws IOException {
+    final ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    try (final DataOutputStream out = new DataOutputStream(plain)) {
+      out.writeInt(tokens.size());
+      for (final Map.Entry<Integer, Installation.AccessToken> entry : tokens.entrySet()) {
+        out.writeInt(entry.getKey());
+        out.writeUTF(entry.getValue().token());
+        out.writeLong(entry.getValue().expiresAt().toEpochMilli());
+      }
+    }
+    final byte[] iv = new byte[IV_LENGTH];
+    RANDOM.nextBytes(iv);
+    final byte[] plainBytes = plain.toByteArray();
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.write(iv);
+      out.write(this.cipher(Cipher.ENCRYPT_MODE, iv).doFinal(plainBytes));
+    } catch (final GeneralSecurityException e) {
+      throw new IOException("Could not encrypt token store " + this.file, e);
+    } finally {
+      Arrays.fill(plainBytes, (byte) 0);
+    }
+
+    // Write everything to a temporary file first, so a crash never leaves a partially written store behind
+    final Path directory = this.file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final Path temporary = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+    try {
+      try {
+        Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-------"));
+      } catch (final UnsupportedOperationException ignored) {
+        // not a POSIX file system
+      }
+      try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        // On disk before it replaces the store, or a crash could leave an empty store behind
+        channel.force(true);
+      }
+      try {
+        Files.move(temporary, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private Cipher cipher(final int mode, final byte[] iv) throws GeneralSecurityException {
+    final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+    cipher.init(mode, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+    return cipher;
+  }
+
+  private static final class StoredAccessToken implements Installation.AccessToken {
+    private final String token;
+    private final Instant expiresAt;
+
+    StoredAccessToken(final String token, final Instant expiresAt) {
+      this.token = token;
+      this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public @NonNull String token() {
+      return this.token;
+    }
+
+    @Override
+    public @NonNull Instant expiresAt() {
+      return this.expiresAt;
+    }
+  }
+}
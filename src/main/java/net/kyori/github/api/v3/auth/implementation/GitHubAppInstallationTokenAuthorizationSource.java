@@ -24,13 +24,8 @@
 package net.kyori.github.api.v3.auth.implementation;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import net.kyori.github.api.v3.Installation;
 import net.kyori.github.api.v3.auth.TokenAuthorizationSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -38,13 +33,14 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * A token-based authorization source for a GitHub App Installation.
  *
+ * <p>Tokens are refreshed in the background ahead of expiry. Callers only wait for a token when no
+ * valid token is available at all, such as before the first token has been created.</p>
+ *
  * @since 2.0.0
  */
 public final class GitHubAppInstallationTokenAuthorizationSource implements TokenAuthorizationSource {
-  private final Callable<Installation.AccessToken> accessTokenProvider;
-  private final ScheduledExecutorService refreshExecutor;
-  private final CountDownLatch firstTokenAcquired = new CountDownLatch(1);
-  private volatile CompletableFuture<String> currentToken;
+  private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+  private final RefreshingAccessToken token;
 
   /**
    * Creates a new token-based authorization source for a GitHub App Installation.
@@ -55,51 +51,22 @@ public final class GitHubAppInstallationTokenAuthorizationSource implements Toke
    */
   public GitHubAppInstallationTokenAuthorizationSource(final Callable<Installation.AccessToken> accessTokenProvider,
                                                        final ScheduledExecutorService refreshExecutor) {
-    this.accessTokenProvider = accessTokenProvider;
-    this.refreshExecutor = refreshExecutor;
-    this.refreshAt(Instant.now());
-  }
-
-  private void refreshAt(final Instant refreshTime) {
-    final Duration refreshDuration = Duration.between(Instant.now(), refreshTime);
-    this.refreshExecutor.schedule(this::refreshToken, refreshDuration.toMillis(), TimeUnit.MILLISECONDS);
+    this.token = new RefreshingAccessToken(accessTokenProvider, refreshExecutor, GitHubAppInstallationTokenManager.sharedMintExecutor(), REFRESH_AHEAD, () -> true, () -> { });
+    this.token.refresh();
   }
 
-  private Void refreshToken() throws Exception {
-    final Installation.AccessToken token;
-    try {
-      token = this.accessTokenProvider.call();
-      this.currentToken = CompletableFuture.completedFuture(token.token());
-    } catch (final Throwable t) {
-      this.currentToken = new CompletableFuture<>();
-      this.currentToken.completeExceptionally(t);
-      throw t;
-    } finally {
-      this.firstTokenAcquired.countDown();
-    }
-
-    // Refresh early to ensure seamless operation
-    this.refreshAt(token.expiresAt().minus(1, ChronoUnit.MINUTES));
-
-    return null;
+  @Override
+  public @NonNull String get() {
+    return this.token.current().header;
   }
 
   @Override
   public @NonNull String currentToken() {
-    try {
-      // Be generous, but do eventually time out
-      if (!this.firstTokenAcquired.await(5, TimeUnit.MINUTES)) {
-        throw new RuntimeException("Timed out while waiting for first token");
-      }
-    } catch (final InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new RuntimeException("Interrupted while waiting for first token", e);
-    }
-    final String currentToken = this.currentToken.join();
-    if (currentToken == null) {
-      throw new AssertionError("Missing current token");
-    }
-    return currentToken;
+    return this.token.current().value;
   }
 
+  @Override
+  public boolean rejected(final @NonNull String value) {
+    return value.startsWith(PREFIX) && this.token.reject(value.substring(PREFIX.length()));
+  }
 }
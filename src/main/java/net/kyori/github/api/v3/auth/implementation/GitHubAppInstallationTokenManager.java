@@ -0,0 +1,339 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth.implementation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.github.api.v3.Installation;
+import net.kyori.github.api.v3.Installations;
+import net.kyori.github.api.v3.auth.InstallationTokenManager;
+import net.kyori.github.api.v3.auth.InstallationTokenStore;
+import net.kyori.github.api.v3.auth.TokenAuthorizationSource;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Manages access tokens for many installations of a GitHub App on a shared executor.
+ *
+ * @since 2.0.0
+ */
+public final class GitHubAppInstallationTokenManager implements InstallationTokenManager {
+  private static final Duration SWEEP_INTERVAL = Duration.ofSeconds(30);
+  // Coalesce saves, so refreshing many installations at once doesn't rewrite the store for each one
+  private static final Duration SAVE_DELAY = Duration.ofSeconds(5);
+  // Enough to keep up with refreshes of many installations, few enough not to trip secondary rate limits
+  private static final int MINT_THREADS = 8;
+
+  /**
+   * Gets the refresh executor shared by all installation token sources that were not given one.
+   *
+   * @return the shared refresh executor
+   * @since 2.0.0
+   */
+  public static @NonNull ScheduledExecutorService sharedRefreshExecutor() {
+    return SharedRefreshExecutor.INSTANCE;
+  }
+
+  /**
+   * Gets the executor shared by all installation token sources that were not given one to create tokens on.
+   *
+   * @return the shared mint executor
+   * @since 2.0.0
+   */
+  public static @NonNull Executor sharedMintExecutor() {
+    return SharedMintExecutor.INSTANCE;
+  }
+
+  private final Installations installations;
+  private final ScheduledExecutorService refreshExecutor;
+  private final Executor mintExecutor;
+  private final Duration refreshAhead;
+  private final long idleTimeoutNanos;
+  private final ConcurrentMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+  private final ScheduledFuture<?> sweep;
+  private final @Nullable InstallationTokenStore store;
+  private final long storeMarginMillis;
+  // Stored tokens for installations that are not currently in use
+  private final ConcurrentMap<Integer, Installation.AccessToken> stored = new ConcurrentHashMap<>();
+  private final AtomicBoolean saveScheduled = new AtomicBoolean();
+  private volatile @Nullable ScheduledFuture<?> pendingSave;
+  // Saves are serialized, so a save running while we close can't overwrite the final one
+  private final Lock saveLock = new ReentrantLock();
+  private volatile boolean closed;
+
+  GitHubAppInstallationTokenManager(final Installations installations, final ScheduledExecutorService refreshExecutor, final Executor mintExecutor, final Duration refreshAhead, final Duration idleTimeout, final @Nullable InstallationTokenStore store, final Duration storeMargin) {
+    this.installations = installations;
+    this.refreshExecutor = refreshExecutor;
+    this.mintExecutor = mintExecutor;
+    this.refreshAhead = refreshAhead;
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.store = store;
+    this.storeMarginMillis = storeMargin.toMillis();
+    if (store != null) {
+      try {
+        for (final Map.Entry<Integer, Installation.AccessToken> entry : store.load().entrySet()) {
+          this.keep(entry.getKey(), entry.getValue());
+        }
+      } catch (final IOException e) {
+        // Starting cold would overwrite the store on the next save - it may only be the wrong key
+        throw new UncheckedIOException("Could not load stored installation tokens", e);
+      }
+    }
+    this.sweep = refreshExecutor.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL.toMillis(), SWEEP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public @NonNull TokenAuthorizationSource forInstallation(final int id) {
+    return new Source(id);
+  }
+
+  @Override
+  public void close() {
+    // Refreshes finishing from here on don't schedule saves, and saves already scheduled do nothing
+    this.closed = true;
+    this.sweep.cancel(false);
+    for (final Entry entry : this.entries.values()) {
+      entry.token.close();
+    }
+    final ScheduledFuture<?> pendingSave = this.pendingSave;
+    if (pendingSave != null) {
+      pendingSave.cancel(false);
+    }
+    this.saveLock.lock();
+    try {
+      this.write();
+      this.entries.clear();
+      this.stored.clear();
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  private Entry entry(final int id) {
+    final Entry entry = this.entries.computeIfAbsent(id, Entry::new);
+    entry.lastUsed = System.nanoTime();
+    return entry;
+  }
+
+  private void sweep() {
+    for (final Entry entry : this.entries.values()) {
+      if (!entry.active()) {
+        // Idle installations are forgotten, and will get a fresh token when next used
+        this.entries.remove(entry.id, entry);
+        entry.token.close();
+        final Installation.AccessToken token = entry.token.peek();
+        if (token != null) {
+          this.keep(entry.id, token);
+        }
+      }
+    }
+  }
+
+  private boolean reusable(final Installation.AccessToken token) {
+    return token.expiresAt().toEpochMilli() - System.currentTimeMillis() > this.storeMarginMillis;
+  }
+
+  private void keep(final int id, final Installation.AccessToken token) {
+    if (this.store != null && this.reusable(token)) {
+      this.stored.put(id, token);
+    }
+  }
+
+  private void scheduleSave() {
+    if (this.store != null && !this.closed && this.saveScheduled.compareAndSet(false, true)) {
+      this.pendingSave = this.refreshExecutor.schedule(this::save, SAVE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void save() {
+    this.saveLock.lock();
+    try {
+      if (!this.closed) {
+        this.write();
+      }
+    } finally {
+      this.saveLock.unlock();
+    }
+  }
+
+  private void write() {
+    if (this.store == null) {
+      return;
+    }
+    this.saveScheduled.set(false);
+    final Map<Integer, Installation.AccessToken> tokens = new HashMap<>();
+    for (final Map.Entry<Integer, Installation.AccessToken> entry : this.stored.entrySet()) {
+      if (this.reusable(entry.getValue())) {
+        tokens.put(entry.getKey(), entry.getValue());
+      } else {
+        this.stored.remove(entry.getKey(), entry.getValue());
+      }
+    }
+    for (final Entry entry : this.entries.values()) {
+      final Installation.AccessToken token = entry.token.peek();
+      if (token != null && this.reusable(token)) {
+        tokens.put(entry.id, token);
+      }
+    }
+    try {
+      this.store.save(tokens);
+    } catch (final IOException ignored) {
+      // Not fatal - tokens will be minted again after a restart
+    }
+  }
+
+  private static final class SharedRefreshExecutor {
+    static final ScheduledExecutorService INSTANCE = Executors.newScheduledThreadPool(2, RefreshThreads.factory("igloo-installation-token-refresh"));
+  }
+
+  private static final class SharedMintExecutor {
+    static final ExecutorService INSTANCE = Executors.newFixedThreadPool(MINT_THREADS, RefreshThreads.factory("igloo-installation-token-mint"));
+  }
+
+  private final class Entry {
+    final int id;
+    final RefreshingAccessToken token;
+    volatile long lastUsed = System.nanoTime();
+
+    Entry(final int id) {
+      this.id = id;
+      final GitHubAppInstallationTokenManager manager = GitHubAppInstallationTokenManager.this;
+      this.token = new RefreshingAccessToken(() -> manager.installations.get(id).createAccessToken(), manager.refreshExecutor, manager.mintExecutor, manager.refreshAhead, this::active, manager::scheduleSave);
+      final Installation.AccessToken stored = manager.stored.remove(id);
+      if (stored != null && manager.reusable(stored)) {
+        this.token.seed(stored);
+      }
+    }
+
+    boolean active() {
+      return System.nanoTime() - this.lastUsed <= GitHubAppInstallationTokenManager.this.idleTimeoutNanos;
+    }
+  }
+
+  private final class Source implements TokenAuthorizationSource {
+    private final int id;
+
+    Source(final int id) {
+      this.id = id;
+    }
+
+    @Override
+    public @NonNull String get() {
+      return GitHubAppInstallationTokenManager.this.entry(this.id).token.current().header;
+    }
+
+    @Override
+    public @NonNull String currentToken() {
+      return GitHubAppInstallationTokenManager.this.entry(this.id).token.current().value;
+    }
+
+    @Override
+    public boolean rejected(final @NonNull String value) {
+      return value.startsWith(PREFIX) && GitHubAppInstallationTokenManager.this.entry(this.id).token.reject(value.substring(PREFIX.length()));
+    }
+  }
+
+  /**
+   * Installation token manager builder.
+   *
+   * @since 2.0.0
+   */
+  public static final class BuilderImpl implements Builder {
+    private final Installations installations;
+    private ScheduledExecutorService refreshExecutor;
+    private Executor mintExecutor;
+    private Duration refreshAhead = Duration.of(5, ChronoUnit.MINUTES);
+    private Duration idleTimeout = Duration.of(15, ChronoUnit.MINUTES);
+    private @Nullable InstallationTokenStore store;
+    private Duration storeMargin = Duration.of(10, ChronoUnit.MINUTES);
+
+    /**
+     * Creates a new installation token manager builder.
+     *
+     * @param installations the installations to get access tokens from
+     * @since 2.0.0
+     */
+    public BuilderImpl(final Installations installations) {
+      this.installations = installations;
+    }
+
+    @Override
+    public @NonNull Builder refreshExecutor(final @NonNull ScheduledExecutorService refreshExecutor) {
+      this.refreshExecutor = refreshExecutor;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder mintExecutor(final @NonNull Executor mintExecutor) {
+      this.mintExecutor = mintExecutor;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder refreshAhead(final @NonNull Duration refreshAhead) {
+      this.refreshAhead = refreshAhead;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder idleTimeout(final @NonNull Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder store(final @NonNull InstallationTokenStore store) {
+      this.store = store;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder storeMargin(final @NonNull Duration storeMargin) {
+      this.storeMargin = storeMargin;
+      return this;
+    }
+
+    @Override
+    public @NonNull InstallationTokenManager build() {
+      final ScheduledExecutorService refreshExecutor = this.refreshExecutor != null ? this.refreshExecutor : sharedRefreshExecutor();
+      final Executor mintExecutor = this.mintExecutor != null ? this.mintExecutor : sharedMintExecutor();
+      return new GitHubAppInstallationTokenManager(this.installations, refreshExecutor, mintExecutor, this.refreshAhead, this.idleTimeout, this.store, this.storeMargin);
+    }
+  }
+}
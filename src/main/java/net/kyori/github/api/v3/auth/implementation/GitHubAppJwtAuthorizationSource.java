@@ -32,13 +32,14 @@ import java.security.PrivateKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Base64;
 import java.util.Date;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import net.kyori.github.api.v3.auth.JwtAuthorizationSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A JWT-based authorization source for a GitHub App.
@@ -69,13 +70,22 @@ public final class GitHubAppJwtAuthorizationSource implements JwtAuthorizationSo
     return privateKey;
   }
 
+  // Allow up to 60 seconds of clock drift
+  private static final long ISSUED_AT_OFFSET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final long LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  // Refresh 1 minute before it would expire, to prevent clock drift errors
+  private static final long REFRESH_AFTER_MILLIS = TimeUnit.MINUTES.toMillis(9);
+  // Ignore differences smaller than the resolution of the Date header
+  private static final long SKEW_TOLERANCE_MILLIS = TimeUnit.SECONDS.toMillis(2);
+
   private final String appId;
   private final Key privateKey;
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // Only ever held while minting - readers never touch it while the current JWT is fresh
+  private final Lock mintLock = new ReentrantLock();
   // The last JWT we generated, cached for performance
-  private String lastJwt;
-  // When should we recreate lastJwt so it never expires?
-  private Instant refreshTime = Instant.MIN;
+  private volatile @Nullable Snapshot snapshot;
+  // How far ahead of our clock the server's clock is
+  private volatile long skewMillis;
 
   /**
    * Creates a new JWT-based authorization source for a GitHub App.
@@ -89,47 +99,92 @@ public final class GitHubAppJwtAuthorizationSource implements JwtAuthorizationSo
     this.privateKey = readPemPrivateKey(privateKeyText);
   }
 
+  @Override
+  public @NonNull String get() {
+    return this.snapshot().header;
+  }
+
   @Override
   public @NonNull String currentJwt() {
-    this.lock.readLock().lock();
-    try {
-      if (this.refreshTime.isBefore(Instant.now())) {
-        this.lock.readLock().unlock();
-        try {
-          this.refreshJwt();
-        } finally {
-          this.lock.readLock().lock();
+    return this.snapshot().jwt;
+  }
+
+  @Override
+  public boolean rejected(final @NonNull String value) {
+    final Snapshot snapshot = this.snapshot;
+    if (snapshot != null && snapshot.header.equals(value)) {
+      // The server may disagree with us about the time - mint again with what we know now
+      this.mintLock.lock();
+      try {
+        if (this.snapshot == snapshot) {
+          this.snapshot = this.mint();
         }
+      } finally {
+        this.mintLock.unlock();
       }
-      final String lastJwt = this.lastJwt;
-      if (lastJwt == null) {
-        throw new AssertionError("Failed to refresh JWT");
-      }
-      return lastJwt;
-    } finally {
-      this.lock.readLock().unlock();
     }
+    return !this.snapshot().header.equals(value);
   }
 
-  private void refreshJwt() {
-    this.lock.writeLock().lock();
+  @Override
+  public void serverTime(final @NonNull Instant serverTime) {
+    final long skew = serverTime.toEpochMilli() - System.currentTimeMillis();
+    if (Math.abs(skew - this.skewMillis) > SKEW_TOLERANCE_MILLIS) {
+      this.skewMillis = skew;
+    }
+  }
+
+  private Snapshot snapshot() {
+    final Snapshot current = this.snapshot;
+    final long now = System.currentTimeMillis();
+    if (current != null && now < current.refreshAt) {
+      return current;
+    }
+    // Only one thread mints - everybody else keeps using the current JWT while it is still valid
+    if (current != null && now < current.expiresAt) {
+      if (!this.mintLock.tryLock()) {
+        return current;
+      }
+    } else {
+      this.mintLock.lock();
+    }
     try {
-      // We might get the lock after it's been updated, if so just bail
-      if (!this.refreshTime.isBefore(Instant.now())) {
-        return;
+      // We might get the lock after it's been updated, if so just use that
+      final Snapshot latest = this.snapshot;
+      if (latest != null && latest != current && System.currentTimeMillis() < latest.refreshAt) {
+        return latest;
       }
-      final Instant now = Instant.now();
-      this.lastJwt = Jwts.builder()
-        .setIssuer(this.appId)
-        // Allow up to 60 seconds of clock drift
-        .setIssuedAt(Date.from(now.minus(1, ChronoUnit.MINUTES)))
-        .setExpiration(Date.from(now.plus(10, ChronoUnit.MINUTES)))
-        .signWith(this.privateKey, SignatureAlgorithm.RS256)
-        .compact();
-      // Refresh 1 minute before it would expire, to prevent clock drift errors
-      this.refreshTime = now.plus(9, ChronoUnit.MINUTES);
+      final Snapshot minted = this.mint();
+      this.snapshot = minted;
+      return minted;
     } finally {
-      this.lock.writeLock().unlock();
+      this.mintLock.unlock();
+    }
+  }
+
+  private Snapshot mint() {
+    final long now = System.currentTimeMillis();
+    final long serverNow = now + this.skewMillis;
+    final String jwt = Jwts.builder()
+      .setIssuer(this.appId)
+      .setIssuedAt(new Date(serverNow - ISSUED_AT_OFFSET_MILLIS))
+      .setExpiration(new Date(serverNow + LIFETIME_MILLIS))
+      .signWith(this.privateKey, SignatureAlgorithm.RS256)
+      .compact();
+    return new Snapshot(jwt, now + REFRESH_AFTER_MILLIS, now + LIFETIME_MILLIS);
+  }
+
+  private static final class Snapshot {
+    final String jwt;
+    final String header;
+    final long refreshAt;
+    final long expiresAt;
+
+    Snapshot(final String jwt, final long refreshAt, final long expiresAt) {
+      this.jwt = jwt;
+      this.header = PREFIX + jwt;
+      this.refreshAt = refreshAt;
+      this.expiresAt = expiresAt;
     }
   }
 }
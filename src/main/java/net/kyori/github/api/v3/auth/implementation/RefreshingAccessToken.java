@@ -0,0 +1,240 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth.implementation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import net.kyori.github.api.v3.Installation;
+import net.kyori.github.api.v3.auth.TokenAuthorizationSource;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An installation access token that refreshes itself ahead of expiry.
+ *
+ * <p>Callers are only ever made to wait when there is no usable token at all. While a
+ * refresh is in flight, the previous token continues to be handed out for as long as it remains
+ * valid. Failed refreshes are retried with exponential backoff.</p>
+ *
+ * <p>A caller that has to wait creates the token on its own thread. Refreshes ahead of expiry run on the
+ * mint executor, and the scheduler only times them, so a burst of refreshes can't hold up the timing of
+ * others.</p>
+ */
+final class RefreshingAccessToken {
+  // Never hand out a token this close to expiring
+  private static final long EXPIRY_MARGIN_MILLIS = Duration.ofSeconds(30).toMillis();
+  // Spread refreshes out so installations minted together don't all refresh together
+  private static final long REFRESH_JITTER_MILLIS = Duration.ofMinutes(1).toMillis();
+  private static final long MIN_RETRY_MILLIS = Duration.ofSeconds(1).toMillis();
+  private static final long MAX_RETRY_MILLIS = Duration.ofMinutes(2).toMillis();
+  // Be generous, but do eventually time out
+  private static final long WAIT_MILLIS = Duration.ofMinutes(1).toMillis();
+
+  private final Callable<Installation.AccessToken> provider;
+  private final ScheduledExecutorService executor;
+  private final Executor minter;
+  private final Duration refreshAhead;
+  private final BooleanSupplier keepRefreshing;
+  private final Runnable refreshed;
+  private final AtomicReference<CompletableFuture<Token>> inFlight = new AtomicReference<>();
+  private volatile @Nullable Token token;
+  private volatile @Nullable ScheduledFuture<?> scheduled;
+  private volatile boolean closed;
+  // Only one refresh runs at a time, but not always on the same thread
+  private volatile int failures;
+
+  // keepRefreshing is tested before scheduling each refresh, so tokens nobody uses are left to expire
+  RefreshingAccessToken(final Callable<Installation.AccessToken> provider, final ScheduledExecutorService executor, final Executor minter, final Duration refreshAhead, final BooleanSupplier keepRefreshing, final Runnable refreshed) {
+    this.provider = provider;
+    this.executor = executor;
+    this.minter = minter;
+    this.refreshAhead = refreshAhead;
+    this.keepRefreshing = keepRefreshing;
+    this.refreshed = refreshed;
+  }
+
+  /**
+   * Starts from a token obtained elsewhere, such as one loaded from a store.
+   *
+   * @param token the token
+   */
+  void seed(final Installation.AccessToken token) {
+    final Token seeded = new Token(token);
+    this.token = seeded;
+    this.scheduleRefresh(seeded);
+  }
+
+  @Nullable Token peek() {
+    return this.token;
+  }
+
+  Token current() {
+    final Token token = this.token;
+    if (token != null && token.usable(System.currentTimeMillis())) {
+      return token;
+    }
+    return this.await(this.refresh(true));
+  }
+
+  /**
+   * Discards {@code rejected} if it is the current token, and waits for a different one.
+   *
+   * @param rejected the token the server rejected
+   * @return {@code true} if a different token is available
+   */
+  boolean reject(final String rejected) {
+    Token token = this.token;
+    if (token != null && token.value.equals(rejected)) {
+      this.token = null;
+      token = null;
+    }
+    if (token == null || !token.usable(System.currentTimeMillis())) {
+      try {
+        token = this.await(this.refresh(true));
+      } catch (final RuntimeException e) {
+        return false;
+      }
+    }
+    return !token.value.equals(rejected);
+  }
+
+  void close() {
+    this.closed = true;
+    final ScheduledFuture<?> scheduled = this.scheduled;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+  }
+
+  CompletableFuture<Token> refresh() {
+    return this.refresh(false);
+  }
+
+  private CompletableFuture<Token> refresh(final boolean inline) {
+    while (true) {
+      final CompletableFuture<Token> existing = this.inFlight.get();
+      if (existing != null) {
+        return existing;
+      }
+      final CompletableFuture<Token> future = new CompletableFuture<>();
+      if (this.inFlight.compareAndSet(null, future)) {
+        if (inline) {
+          this.run(future);
+        } else {
+          this.minter.execute(() -> this.run(future));
+        }
+        return future;
+      }
+    }
+  }
+
+  private void run(final CompletableFuture<Token> future) {
+    final Token token;
+    try {
+      token = new Token(this.provider.call());
+    } catch (final Throwable t) {
+      this.failures++;
+      this.inFlight.set(null);
+      future.completeExceptionally(t);
+      // Keep trying, backing off, so a transient failure doesn't leave us without a token forever
+      final long backoff = Math.min(MAX_RETRY_MILLIS, MIN_RETRY_MILLIS << Math.min(this.failures - 1, 16));
+      this.schedule(backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+      return;
+    }
+    this.failures = 0;
+    this.token = token;
+    this.inFlight.set(null);
+    future.complete(token);
+    this.refreshed.run();
+    this.scheduleRefresh(token);
+  }
+
+  private void scheduleRefresh(final Token token) {
+    final long untilExpiry = token.expiresAt - System.currentTimeMillis() - this.refreshAhead.toMillis();
+    this.schedule(Math.max(0, untilExpiry - ThreadLocalRandom.current().nextLong(REFRESH_JITTER_MILLIS)));
+  }
+
+  private void schedule(final long delayMillis) {
+    if (this.closed || !this.keepRefreshing.getAsBoolean()) {
+      return;
+    }
+    final ScheduledFuture<?> previous = this.scheduled;
+    if (previous != null) {
+      previous.cancel(false);
+    }
+    this.scheduled = this.executor.schedule(() -> {
+      this.refresh();
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private Token await(final CompletableFuture<Token> future) {
+    try {
+      return future.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for token", e);
+    } catch (final ExecutionException e) {
+      throw new RuntimeException("Failed to create installation access token", e.getCause());
+    } catch (final TimeoutException e) {
+      throw new RuntimeException("Timed out while waiting for token", e);
+    }
+  }
+
+  static final class Token implements Installation.AccessToken {
+    final String value;
+    final String header;
+    final long expiresAt;
+
+    Token(final Installation.AccessToken token) {
+      this.value = token.token();
+      this.header = TokenAuthorizationSource.PREFIX + this.value;
+      this.expiresAt = token.expiresAt().toEpochMilli();
+    }
+
+    boolean usable(final long now) {
+      return now + EXPIRY_MARGIN_MILLIS < this.expiresAt;
+    }
+
+    @Override
+    public @NonNull String token() {
+      return this.value;
+    }
+
+    @Override
+    public @NonNull Instant expiresAt() {
+      return Instant.ofEpochMilli(this.expiresAt);
+    }
+  }
+}
@@ -25,10 +25,14 @@ package net.kyori.github.api.v3.implementation;
 
 import com.google.api.client.http.EmptyContent;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 import net.kyori.github.api.v3.Comments;
 import net.kyori.github.api.v3.Issue;
 import net.kyori.github.api.v3.IssueLabels;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 abstract class AbstractIssue implements Issue {
   final HTTP.RequestTemplate request;
@@ -45,10 +49,59 @@ abstract class AbstractIssue implements Issue {
   }
 
   @Override
-  public <E extends Edit> void edit(final @NonNull E edit) throws IOException {
-    this.request.patch(edit).close();
+  public <E extends Edit> boolean edit(final @NonNull E edit) throws IOException {
+    final Partial.Issue known = this.known();
+    Map<String, Object> changes = Edits.changes(this.request.session.json, edit, this.state(known != null ? known : this.fetch()));
+    if (changes.isEmpty()) {
+      if (known == null) {
+        // Fetched just now, so it can't be stale
+        return false;
+      }
+      // What we know may be stale - make sure the edit really is a no-op before dropping it
+      changes = Edits.changes(this.request.session.json, edit, this.state(this.fetch()));
+      if (changes.isEmpty()) {
+        return false;
+      }
+    }
+    this.edited(this.request.patch(changes).as(Partial.Issue.class));
+    return true;
   }
 
+  private Partial.Issue fetch() throws IOException {
+    final Partial.Issue fresh = this.request.get().as(Partial.Issue.class);
+    this.edited(fresh);
+    return fresh;
+  }
+
+  private Map<String, Object> state(final Partial.Issue current) {
+    final Map<String, Object> state = new HashMap<>();
+    state.put("title", current.title);
+    state.put("body", current.body);
+    state.put("state", this.request.session.json.convertValue(current.state, String.class));
+    state.put("milestone", current.milestone != null ? current.milestone.number : null);
+    if (current.labels != null) {
+      state.put("labels", current.labels.stream().map(label -> label.name).collect(Collectors.toList()));
+    }
+    if (current.assignees != null) {
+      state.put("assignees", current.assignees.stream().map(user -> user.login).collect(Collectors.toList()));
+    }
+    return state;
+  }
+
+  /**
+   * Gets the known state of this issue, without fetching it.
+   *
+   * @return the known state, or {@code null} if it has not been fetched
+   */
+  abstract Partial.@Nullable Issue known();
+
+  /**
+   * Replaces the known state of this issue after an edit.
+   *
+   * @param issue the new state
+   */
+  abstract void edited(final Partial.Issue issue);
+
   @Override
   public @NonNull IssueLabels labels() {
     return new IssueLabelsImpl(this.request);
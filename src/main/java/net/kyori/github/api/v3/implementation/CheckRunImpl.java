@@ -0,0 +1,145 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import net.kyori.github.api.v3.CheckRun;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+final class CheckRunImpl implements CheckRun {
+  // The most annotations GitHub accepts in a single request
+  static final int ANNOTATIONS_PER_REQUEST = 50;
+  // Chunks being sent while the next one is built - bounds both memory and concurrent requests
+  static final int ANNOTATION_REQUESTS_IN_FLIGHT = 2;
+  private final long id;
+  private final HTTP.RequestTemplate request;
+  private final Lazy<Partial.CheckRun> json;
+
+  /**
+   * Creates a check run.
+   *
+   * @param runs the repository's check runs - {@code /repos/{owner}/{repo}/check-runs}
+   * @param id the check run id
+   */
+  CheckRunImpl(final HTTP.RequestTemplate runs, final long id) {
+    this.id = id;
+    this.request = runs.path(Long.toString(id));
+    this.json = new Lazy<>(this.request, Partial.CheckRun.class);
+  }
+
+  CheckRunImpl(final HTTP.RequestTemplate runs, final Partial.CheckRun run) {
+    this.id = run.id;
+    this.request = runs.path(Long.toString(run.id));
+    this.json = new Lazy<>(run);
+  }
+
+  @Override
+  public long id() {
+    return this.id;
+  }
+
+  @Override
+  public @NonNull String html_url() {
+    return this.json.get().html_url;
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.json.get().name;
+  }
+
+  @Override
+  public @NonNull String head_sha() {
+    return this.json.get().head_sha;
+  }
+
+  @Override
+  public @NonNull Status status() {
+    return this.json.get().status;
+  }
+
+  @Override
+  public @NonNull Optional<Conclusion> conclusion() {
+    return Optional.ofNullable(this.json.get().conclusion);
+  }
+
+  @Override
+  public <U extends Update> void update(final @NonNull U update) throws IOException {
+    this.json.set(this.request.patch(update).as(Partial.CheckRun.class));
+  }
+
+  @Override
+  public void annotate(final @NonNull String title, final @NonNull String summary, final @NonNull Iterable<? extends Annotation> annotations) throws IOException {
+    final Semaphore inFlight = new Semaphore(ANNOTATION_REQUESTS_IN_FLIGHT);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final Iterator<? extends Annotation> it = annotations.iterator();
+    boolean sent = false;
+    try {
+      while (failure.get() == null && (it.hasNext() || !sent)) {
+        final List<Annotation> chunk = new ArrayList<>(ANNOTATIONS_PER_REQUEST);
+        while (chunk.size() < ANNOTATIONS_PER_REQUEST && it.hasNext()) {
+          chunk.add(it.next());
+        }
+        sent = true;
+        final Map<String, Object> output = new LinkedHashMap<>();
+        output.put("title", title);
+        output.put("summary", summary);
+        output.put("annotations", chunk);
+        final Map<String, Object> body = Collections.singletonMap("output", output);
+        // Wait for a slot before reading further, so at most one unsent chunk is ever held
+        inFlight.acquireUninterruptibly();
+        try {
+          this.request.session.executor.execute(() -> {
+            try {
+              this.request.patch(body).close();
+            } catch (final Throwable t) {
+              failure.compareAndSet(null, t);
+            } finally {
+              inFlight.release();
+            }
+          });
+        } catch (final RuntimeException e) {
+          inFlight.release();
+          throw e;
+        }
+      }
+    } finally {
+      // Wait for every chunk to be sent, whether or not reading the annotations failed
+      inFlight.acquireUninterruptibly(ANNOTATION_REQUESTS_IN_FLIGHT);
+    }
+    final Throwable t = failure.get();
+    if (t != null) {
+      throw Hacks.yeet(t);
+    }
+  }
+}
@@ -29,14 +29,18 @@ import net.kyori.github.api.v3.User;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class CollaboratorImpl implements Collaborator {
-  private final HTTP.RequestTemplate request;
+  private final HTTP.RequestTemplate collaborators;
+  private final CollaboratorPermissions.Repository repository;
+  private final String login;
 
-  CollaboratorImpl(final HTTP.RequestTemplate request, final User user) {
-    this.request = request.path(user.login());
+  CollaboratorImpl(final HTTP.RequestTemplate collaborators, final CollaboratorPermissions.Repository repository, final User user) {
+    this.collaborators = collaborators;
+    this.repository = repository;
+    this.login = user.login();
   }
 
   @Override
   public @NonNull Permission permission() throws IOException {
-    return this.request.path("permission").get().as(Partial.Permission.class).permission;
+    return this.repository.permission(this.collaborators, this.login);
   }
 }
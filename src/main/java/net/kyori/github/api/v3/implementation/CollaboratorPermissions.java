@@ -0,0 +1,151 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.github.api.v3.Collaborator;
+
+/**
+ * Remembers the permissions of collaborators, so permission checks don't each cost a request.
+ *
+ * <p>Permissions of every collaborator are loaded together from the collaborators listing, which
+ * includes them, and reloaded once they are five minutes old. Users missing from the listing are
+ * looked up one at a time, and concurrent lookups of the same user share a single request.</p>
+ */
+final class CollaboratorPermissions {
+  static final Duration MAX_AGE = Duration.ofMinutes(5);
+  static final int PAGE_SIZE = 100;
+  private static final int MAX_REPOSITORIES = 10_000;
+  private final Cache<String, Repository> repositories = CacheBuilder.newBuilder()
+    .maximumSize(MAX_REPOSITORIES)
+    .build();
+
+  // Repository names and logins are case-insensitive
+  static String repository(final String owner, final String repo) {
+    return owner.toLowerCase(Locale.ROOT) + '/' + repo.toLowerCase(Locale.ROOT);
+  }
+
+  static String login(final String login) {
+    return login.toLowerCase(Locale.ROOT);
+  }
+
+  Repository get(final String repository) {
+    try {
+      return this.repositories.get(repository, Repository::new);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static Collaborator.Permission permission(final Partial.Collaborator.Permissions permissions) {
+    if (permissions.admin) {
+      return Collaborator.Permission.ADMIN;
+    } else if (permissions.maintain || permissions.push) {
+      return Collaborator.Permission.WRITE;
+    } else if (permissions.triage || permissions.pull) {
+      return Collaborator.Permission.READ;
+    }
+    return Collaborator.Permission.NONE;
+  }
+
+  static final class Repository {
+    final Cache<String, Collaborator.Permission> permissions = CacheBuilder.newBuilder()
+      .expireAfterWrite(MAX_AGE.toNanos(), TimeUnit.NANOSECONDS)
+      .build();
+    // Held while loading the listing, so concurrent checks only load it once
+    private final Lock lock = new ReentrantLock();
+    private volatile long loadedAt;
+    private volatile boolean loaded;
+
+    Collaborator.Permission permission(final HTTP.RequestTemplate collaborators, final String login) throws IOException {
+      final String key = login(login);
+      if (this.stale()) {
+        this.load(collaborators);
+      }
+      try {
+        return this.permissions.get(key, () -> collaborators.path(login, "permission").get().as(Partial.Permission.class).permission);
+      } catch (final ExecutionException e) {
+        throw Hacks.yeet(e.getCause());
+      }
+    }
+
+    private static boolean forbidden(final Exception e) {
+      if (!(e instanceof HttpResponseException)) {
+        return false;
+      }
+      final int status = ((HttpResponseException) e).getStatusCode();
+      return status == HttpStatusCodes.STATUS_CODE_FORBIDDEN || status == HttpStatusCodes.STATUS_CODE_NOT_FOUND;
+    }
+
+    private boolean stale() {
+      return !this.loaded || System.nanoTime() - this.loadedAt >= MAX_AGE.toNanos();
+    }
+
+    private void load(final HTTP.RequestTemplate collaborators) {
+      this.lock.lock();
+      try {
+        if (!this.stale()) {
+          return;
+        }
+        final Map<String, Collaborator.Permission> permissions = new HashMap<>();
+        try {
+          final Iterable<Partial.Collaborator> all = new Paginated<>(
+            collaborators.query("per_page", PAGE_SIZE),
+            Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+            Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Collaborator[].class)))
+          );
+          for (final Partial.Collaborator collaborator : all) {
+            permissions.put(login(collaborator.login), CollaboratorPermissions.permission(collaborator.permissions));
+          }
+          // Whoever is no longer listed has lost their access
+          this.permissions.asMap().keySet().retainAll(permissions.keySet());
+          this.permissions.putAll(permissions);
+        } catch (final Exception e) {
+          // Pages are fetched as they are iterated, which can't throw checked exceptions - they are thrown sneakily
+          if (!forbidden(e)) {
+            throw Hacks.yeet(e);
+          }
+          // Listing needs push access, which we may not have - look users up one at a time until it's time to try again
+        }
+        this.loadedAt = System.nanoTime();
+        this.loaded = true;
+      } finally {
+        this.lock.unlock();
+      }
+    }
+  }
+}
@@ -23,6 +23,7 @@
  */
 package net.kyori.github.api.v3.implementation;
 
+import java.util.List;
 import net.kyori.github.api.v3.Collaborator;
 import net.kyori.github.api.v3.Collaborators;
 import net.kyori.github.api.v3.User;
@@ -30,13 +31,16 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class CollaboratorsImpl implements Collaborators {
   private final HTTP.RequestTemplate request;
+  private final String repository;
 
   CollaboratorsImpl(final HTTP.RequestTemplate request) {
     this.request = request.path("collaborators");
+    final List<String> path = request.pathParts();
+    this.repository = CollaboratorPermissions.repository(path.get(path.size() - 2), path.get(path.size() - 1));
   }
 
   @Override
   public @NonNull Collaborator get(final @NonNull User user) {
-    return new CollaboratorImpl(this.request, user);
+    return new CollaboratorImpl(this.request, this.request.session.collaboratorPermissions.get(this.repository), user);
   }
 }
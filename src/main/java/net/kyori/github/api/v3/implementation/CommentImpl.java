@@ -23,17 +23,90 @@
  */
 package net.kyori.github.api.v3.implementation;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import net.kyori.github.api.v3.Comment;
+import net.kyori.github.api.v3.CommentPartial;
+import net.kyori.github.api.v3.User;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class CommentImpl implements Comment {
-  private final int id;
+  static final int PAGE_SIZE = 100;
+  private final HTTP.RequestTemplate request;
+  // Replaced after an edit
+  private volatile Partial.Comment state;
 
-  CommentImpl(final int id) {
-    this.id = id;
+  /**
+   * Creates a comment.
+   *
+   * @param comments the repository's issue comments - {@code /repos/{owner}/{repo}/issues/comments}
+   * @param comment the comment
+   */
+  CommentImpl(final HTTP.RequestTemplate comments, final Partial.Comment comment) {
+    this.request = comments.path(Long.toString(comment.id));
+    this.state = comment;
+  }
+
+  static Iterable<Comment> all(final HTTP.RequestTemplate listing, final HTTP.RequestTemplate comments) {
+    return new Paginated<>(
+      listing.query("per_page", PAGE_SIZE),
+      Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Comment[].class)).map(comment -> new CommentImpl(comments, comment)))
+    );
+  }
+
+  @Override
+  public long id() {
+    return this.state.id;
+  }
+
+  @Override
+  public int issue() {
+    final String url = this.state.issue_url;
+    return Integer.parseInt(url.substring(url.lastIndexOf('/') + 1));
+  }
+
+  @Override
+  public @NonNull String html_url() {
+    return this.state.html_url;
+  }
+
+  @Override
+  public @NonNull User user() {
+    final Partial.User user = this.state.user;
+    return this.request.session.interning.user(user);
+  }
+
+  @Override
+  public @NonNull String body() {
+    return this.state.body;
+  }
+
+  @Override
+  public @NonNull Instant createdAt() {
+    return this.state.created_at;
+  }
+
+  @Override
+  public @NonNull Instant updatedAt() {
+    return this.state.updated_at;
+  }
+
+  @Override
+  public boolean edit(final CommentPartial.@NonNull BodyPartial body) throws IOException {
+    final Map<String, Object> changes = Edits.changes(this.request.session.json, body, Collections.singletonMap("body", this.state.body));
+    if (changes.isEmpty()) {
+      return false;
+    }
+    this.state = this.request.patch(changes).as(Partial.Comment.class);
+    return true;
   }
 
   @Override
-  public int id() {
-    return this.id;
+  public void delete() throws IOException {
+    this.request.delete().close();
   }
 }
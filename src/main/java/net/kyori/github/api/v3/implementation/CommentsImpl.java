@@ -23,7 +23,12 @@
  */
 package net.kyori.github.api.v3.implementation;
 
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import net.kyori.github.api.v3.Comment;
 import net.kyori.github.api.v3.CommentPartial;
 import net.kyori.github.api.v3.Comments;
@@ -31,13 +36,75 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class CommentsImpl implements Comments {
   private final HTTP.RequestTemplate request;
+  private final HTTP.RequestTemplate comments;
+  private final String issue;
+  private final HTTP.RequestTemplate root;
 
   CommentsImpl(final HTTP.RequestTemplate request) {
     this.request = request.path("comments");
+    // Comments are edited and deleted through the repository, not the issue
+    this.comments = request.up(1).path("comments");
+    // .../repos/{owner}/{repo}/issues/{number}
+    final List<String> path = request.pathParts();
+    final int size = path.size();
+    this.issue = StickyComments.issue(path.get(size - 4), path.get(size - 3), Integer.parseInt(path.get(size - 1)));
+    this.root = request.up(5);
   }
 
   @Override
   public @NonNull Comment post(final CommentPartial.@NonNull BodyPartial body) throws IOException {
-    return new CommentImpl(this.request.post(body).as(Partial.Id.class).id);
+    return new CommentImpl(this.comments, this.request.post(body).as(Partial.Comment.class));
+  }
+
+  @Override
+  public @NonNull Comment upsert(final @NonNull String key, final CommentPartial.@NonNull BodyPartial body) throws IOException {
+    final String text = body.body() + "\n\n" + StickyComments.marker(key);
+    final StickyComments stickyComments = this.request.session.stickyComments;
+    final StickyComments.Issue issue = stickyComments.get(this.issue);
+    issue.lock.lock();
+    try {
+      Long id = issue.ids.get(key);
+      if (id == null && !issue.scanned) {
+        // One scan finds every sticky comment on the issue - after that, webhooks and upserts keep ids current
+        stickyComments.identify(this.root);
+        for (final Comment comment : this.all()) {
+          final String found = StickyComments.key(comment.body());
+          if (found != null && stickyComments.ours(comment.user().login())) {
+            issue.ids.putIfAbsent(found, comment.id());
+          }
+        }
+        issue.scanned = true;
+        id = issue.ids.get(key);
+      }
+      if (id != null) {
+        try {
+          return new CommentImpl(this.comments, this.comments.path(Long.toString(id)).patch(Collections.singletonMap("body", text)).as(Partial.Comment.class));
+        } catch (final HttpResponseException e) {
+          if (e.getStatusCode() != HttpStatusCodes.STATUS_CODE_NOT_FOUND && e.getStatusCode() != HttpStatusCodes.STATUS_CODE_FORBIDDEN) {
+            throw e;
+          }
+          // Deleted since we last saw it, or not ours to edit
+          issue.ids.remove(key, id);
+        }
+      }
+      final Comment comment = new CommentImpl(this.comments, this.request.post(Collections.singletonMap("body", text)).as(Partial.Comment.class));
+      stickyComments.posted(comment.user().login());
+      issue.ids.put(key, comment.id());
+      return comment;
+    } finally {
+      issue.lock.unlock();
+    }
+  }
+
+  @Override
+  @SuppressWarnings("RedundantThrows")
+  public @NonNull Iterable<Comment> all() throws IOException {
+    return CommentImpl.all(this.request, this.comments);
+  }
+
+  @Override
+  @SuppressWarnings("RedundantThrows")
+  public @NonNull Iterable<Comment> all(final @NonNull Instant since) throws IOException {
+    return CommentImpl.all(this.request.query("since", since.toString()), this.comments);
   }
 }
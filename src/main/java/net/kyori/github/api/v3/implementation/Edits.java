@@ -0,0 +1,69 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reduces edit documents to the fields that would actually change something.
+ */
+final class Edits {
+  private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<Map<String, Object>>() {};
+
+  private Edits() {
+  }
+
+  /**
+   * Gets the fields of an edit that differ from the current state.
+   *
+   * <p>Collections are compared without regard to order, as GitHub treats labels and assignees as sets.</p>
+   *
+   * @param json the mapper the edit would be serialized with
+   * @param edit the edit
+   * @param current the current state, as it would be serialized
+   * @return the changed fields, in edit order
+   */
+  static Map<String, Object> changes(final ObjectMapper json, final Object edit, final Map<String, Object> current) {
+    final Map<String, Object> changes = new LinkedHashMap<>();
+    for (final Map.Entry<String, Object> field : json.convertValue(edit, FIELDS).entrySet()) {
+      if (!current.containsKey(field.getKey()) || !same(field.getValue(), current.get(field.getKey()))) {
+        changes.put(field.getKey(), field.getValue());
+      }
+    }
+    return changes;
+  }
+
+  private static boolean same(final Object a, final Object b) {
+    if (a instanceof Collection<?> && b instanceof Collection<?>) {
+      return new HashSet<>((Collection<?>) a).equals(new HashSet<>((Collection<?>) b));
+    }
+    return Objects.equals(a, b);
+  }
+}
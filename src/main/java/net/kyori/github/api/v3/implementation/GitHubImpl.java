@@ -30,20 +30,42 @@ import com.google.api.client.http.HttpBackOffIOExceptionHandler;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.api.client.http.HttpUnsuccessfulResponseHandler;
 import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.Json;
 import com.google.api.client.util.ExponentialBackOff;
 import com.google.common.collect.Streams;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.kyori.github.api.v3.GitHub;
 import net.kyori.github.api.v3.GitHubApp;
+import net.kyori.github.api.v3.LabelSync;
 import net.kyori.github.api.v3.Organizations;
+import net.kyori.github.api.v3.Priority;
 import net.kyori.github.api.v3.Repositories;
+import net.kyori.github.api.v3.ResponseCache;
+import net.kyori.github.api.v3.Search;
+import net.kyori.github.api.v3.StatusPublisher;
+import net.kyori.github.api.v3.Traffic;
 import net.kyori.github.api.v3.Users;
 import net.kyori.github.api.v3.auth.AuthorizationSource;
+import net.kyori.github.api.v3.auth.JwtAuthorizationSource;
+import net.kyori.github.api.webhook.event.IssueCommentEvent;
+import net.kyori.github.api.webhook.event.MembershipEvent;
+import net.kyori.github.api.webhook.event.TeamEvent;
 import net.kyori.github.util.Accept;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -64,28 +86,58 @@ public final class GitHubImpl implements GitHub {
     Stream.of("application/vnd.github.v3+json")
   ).collect(Collectors.toList());
   private final HTTP.RequestTemplate request;
+  private final TrafficCounter traffic;
+  private final ApacheHttpTransport transport;
+  private final @Nullable ResponseCache ownedCache;
 
-  GitHubImpl(final String endpoint, final @Nullable AuthorizationSource auth, final @Nullable Consumer<HttpRequest> httpRequestConfigurer) {
-    final HttpRequestFactory factory = new ApacheHttpTransport().createRequestFactory(request -> {
+  GitHubImpl(final String endpoint, final @Nullable AuthorizationSource auth, final @Nullable Consumer<HttpRequest> httpRequestConfigurer, final @Nullable ResponseCache cache, final boolean ownsCache, final Executor executor, final boolean intern, final Lanes lanes, final int concurrency) {
+    this.traffic = new TrafficCounter();
+    this.ownedCache = ownsCache ? cache : null;
+    final ApacheHttpTransport transport = new ApacheHttpTransport(this.traffic.install(ApacheHttpTransport.newDefaultHttpClientBuilder())
+      // Every request is to the same host - the lanes decide who gets a connection, and hold their place until it is returned
+      .setMaxConnTotal(concurrency)
+      .setMaxConnPerRoute(concurrency)
+      .build());
+    this.transport = transport;
+    final HttpRequestFactory factory = transport.createRequestFactory(request -> {
       request.setIOExceptionHandler(new HttpBackOffIOExceptionHandler(new ExponentialBackOff()));
       request.setNumberOfRetries(10);
       if (httpRequestConfigurer != null) {
         httpRequestConfigurer.accept(request);
       }
+      request.setResponseInterceptor(new Lanes.Interceptor(lanes, request.getResponseInterceptor()));
       final HttpHeaders headers = request.getHeaders();
       headers.put(Accept.HEADER_NAME, HEADER_VALUES);
       headers.setContentType(Json.MEDIA_TYPE);
+      // Decompressed by the client as the body is read
+      headers.setAcceptEncoding("gzip");
       if (auth != null) {
         headers.setAuthorization(auth.get());
+        request.setUnsuccessfulResponseHandler(new ReauthorizingHandler(auth, request.getUnsuccessfulResponseHandler()));
+        if (auth instanceof JwtAuthorizationSource) {
+          request.setResponseInterceptor(new ServerTimeInterceptor((JwtAuthorizationSource) auth, request.getResponseInterceptor()));
+        }
       }
       if (headers.getUserAgent() == null) {
         headers.setUserAgent("igloo");
       }
     });
-    final ObjectMapper json = JsonMapper.builder()
-      .addModule(new JavaTimeModule())
-      .build();
-    this.request = new HTTP.RequestTemplate(json, factory, new HTTP.Url(endpoint));
+    final Interning interning = new Interning(intern);
+    // Mappers build a deserializer for each type on first use - share one, unless it has to intern into our pool
+    final ObjectMapper json = intern ? json(interning) : SharedJson.INSTANCE;
+    this.request = new HTTP.RequestTemplate(new Session(json, factory, cache, executor, interning, lanes), new HTTP.Url(endpoint));
+  }
+
+  private GitHubImpl(final HTTP.RequestTemplate request, final TrafficCounter traffic, final ApacheHttpTransport transport, final @Nullable ResponseCache ownedCache) {
+    this.request = request;
+    this.traffic = traffic;
+    this.transport = transport;
+    this.ownedCache = ownedCache;
+  }
+
+  @Override
+  public @NonNull GitHub withPriority(final @NonNull Priority priority) {
+    return priority == this.request.priority ? this : new GitHubImpl(this.request.priority(priority), this.traffic, this.transport, this.ownedCache);
   }
 
   @Override
@@ -108,6 +160,122 @@ public final class GitHubImpl implements GitHub {
     return new GitHubAppImpl(this.request);
   }
 
+  @Override
+  public @NonNull Search search() {
+    return new SearchImpl(this.request);
+  }
+
+  @Override
+  public @NonNull Traffic traffic() {
+    return this.traffic;
+  }
+
+  @Override
+  public LabelSync.@NonNull Builder labelSync() {
+    return new LabelSyncImpl.BuilderImpl(this.request);
+  }
+
+  @Override
+  public StatusPublisher.@NonNull Builder statusPublisher() {
+    return new StatusPublisherImpl.BuilderImpl(this.request);
+  }
+
+  @Override
+  public void accept(final @NonNull IssueCommentEvent event) {
+    this.request.session.stickyComments.accept(event);
+  }
+
+  @Override
+  public void accept(final @NonNull MembershipEvent event) {
+    this.request.session.teamMemberships.accept(event);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (this.ownedCache != null) {
+        this.ownedCache.close();
+      }
+    } finally {
+      this.transport.shutdown();
+    }
+  }
+
+  @Override
+  public void accept(final @NonNull TeamEvent event) {
+    this.request.session.teamMemberships.accept(event);
+  }
+
+  private static ObjectMapper json(final Interning interning) {
+    return JsonMapper.builder()
+      .addModule(new JavaTimeModule())
+      .handlerInstantiator(interning.handlerInstantiator())
+      .build();
+  }
+
+  private static final class SharedJson {
+    static final ObjectMapper INSTANCE = json(new Interning(false));
+  }
+
+  private static final class SharedExecutor {
+    static final ExecutorService INSTANCE = Threads.executor("igloo-worker");
+  }
+
+  /**
+   * Retries a request once with fresh credentials when the server rejects the credentials it was sent with.
+   */
+  private static final class ReauthorizingHandler implements HttpUnsuccessfulResponseHandler {
+    private final AuthorizationSource auth;
+    private final @Nullable HttpUnsuccessfulResponseHandler delegate;
+    private boolean retried;
+
+    ReauthorizingHandler(final AuthorizationSource auth, final @Nullable HttpUnsuccessfulResponseHandler delegate) {
+      this.auth = auth;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean handleResponse(final HttpRequest request, final HttpResponse response, final boolean supportsRetry) throws IOException {
+      if (response.getStatusCode() == HttpStatusCodes.STATUS_CODE_UNAUTHORIZED && supportsRetry && !this.retried) {
+        this.retried = true;
+        final String rejected = request.getHeaders().getAuthorization();
+        if (rejected != null && this.auth.rejected(rejected)) {
+          request.getHeaders().setAuthorization(this.auth.get());
+          return true;
+        }
+      }
+      return this.delegate != null && this.delegate.handleResponse(request, response, supportsRetry);
+    }
+  }
+
+  /**
+   * Tells a JWT source about the server's clock, so it can issue JWTs the server agrees are valid.
+   */
+  private static final class ServerTimeInterceptor implements HttpResponseInterceptor {
+    private final JwtAuthorizationSource auth;
+    private final @Nullable HttpResponseInterceptor delegate;
+
+    ServerTimeInterceptor(final JwtAuthorizationSource auth, final @Nullable HttpResponseInterceptor delegate) {
+      this.auth = auth;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void interceptResponse(final HttpResponse response) throws IOException {
+      final String date = response.getHeaders().getDate();
+      if (date != null) {
+        try {
+          this.auth.serverTime(Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(date)));
+        } catch (final DateTimeException ignored) {
+          // not worth failing a request over
+        }
+      }
+      if (this.delegate != null) {
+        this.delegate.interceptResponse(response);
+      }
+    }
+  }
+
   /**
    * GitHub API builder.
    *
@@ -117,6 +285,14 @@ public final class GitHubImpl implements GitHub {
     private String endpoint = API_ENDPOINT;
     private @Nullable AuthorizationSource auth;
     private @Nullable Consumer<HttpRequest> httpRequestConfigurer;
+    private @Nullable ResponseCache cache;
+    private @Nullable Path cacheDirectory;
+    private long cacheMaxBytes;
+    private @Nullable Executor executor;
+    private boolean intern;
+    private int concurrency = 20;
+    private int reservedConcurrency = 4;
+    private int reservedRateLimit = 500;
 
     @Override
     public @NonNull Builder endpoint(final @NonNull String endpoint) {
@@ -136,9 +312,76 @@ public final class GitHubImpl implements GitHub {
       return this;
     }
 
+    @Override
+    public @NonNull Builder cache(final @NonNull ResponseCache cache) {
+      this.cache = cache;
+      this.cacheDirectory = null;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder cache(final @NonNull Path directory, final long maxBytes) {
+      this.cache = null;
+      this.cacheDirectory = directory;
+      this.cacheMaxBytes = maxBytes;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder executor(final @NonNull Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder intern(final boolean intern) {
+      this.intern = intern;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder concurrency(final int concurrency) {
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("concurrency must be at least 1");
+      }
+      this.concurrency = concurrency;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder reservedConcurrency(final int reservedConcurrency) {
+      if (reservedConcurrency < 0) {
+        throw new IllegalArgumentException("reserved concurrency must not be negative");
+      }
+      this.reservedConcurrency = reservedConcurrency;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder reservedRateLimit(final int reservedRateLimit) {
+      if (reservedRateLimit < 0) {
+        throw new IllegalArgumentException("reserved rate limit must not be negative");
+      }
+      this.reservedRateLimit = reservedRateLimit;
+      return this;
+    }
+
     @Override
     public @NonNull GitHub build() {
-      return new GitHubImpl(this.endpoint, this.auth, this.httpRequestConfigurer);
+      if (this.reservedConcurrency >= this.concurrency) {
+        throw new IllegalArgumentException("reserved concurrency must leave at least one request for bulk requests");
+      }
+      final Executor executor = this.executor != null ? this.executor : SharedExecutor.INSTANCE;
+      final Lanes lanes = new Lanes(this.concurrency, this.reservedConcurrency, this.reservedRateLimit);
+      ResponseCache cache = this.cache;
+      if (this.cacheDirectory != null) {
+        try {
+          cache = ResponseCache.persistent(this.cacheDirectory, this.cacheMaxBytes);
+        } catch (final IOException e) {
+          throw new UncheckedIOException("Could not open response cache", e);
+        }
+      }
+      return new GitHubImpl(this.endpoint, this.auth, this.httpRequestConfigurer, cache, this.cacheDirectory != null, executor, this.intern, lanes, this.concurrency);
     }
   }
 }
@@ -24,19 +24,23 @@
 package net.kyori.github.api.v3.implementation;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.api.client.http.ByteArrayContent;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.api.client.http.AbstractHttpContent;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpRequest;
-import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
 import com.google.api.client.json.Json;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
+import com.google.common.io.ByteStreams;
 import com.google.common.reflect.TypeToken;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +48,10 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import net.kyori.github.api.v3.Priority;
+import net.kyori.github.api.v3.ResponseCache;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static com.google.common.base.Preconditions.checkState;
 
@@ -72,74 +79,220 @@ final class HTTP {
   }
 
   static final class RequestTemplate {
-    final ObjectMapper json;
-    final HttpRequestFactory requests;
+    final Session session;
     private final Url url;
+    final Priority priority;
 
-    RequestTemplate(final ObjectMapper json, final HttpRequestFactory requests, final Url url) {
-      this.json = json;
-      this.requests = requests;
+    RequestTemplate(final Session session, final Url url) {
+      this(session, url, Priority.INTERACTIVE);
+    }
+
+    private RequestTemplate(final Session session, final Url url, final Priority priority) {
+      this.session = session;
       this.url = url;
+      this.priority = priority;
     }
 
     public RequestTemplate path(final @NonNull String path) {
-      return new RequestTemplate(this.json, this.requests, new Url(this.url, path));
+      return new RequestTemplate(this.session, new Url(this.url, path), this.priority);
     }
 
     public RequestTemplate path(final @NonNull String... path) {
-      return new RequestTemplate(this.json, this.requests, new Url(this.url, path));
+      return new RequestTemplate(this.session, new Url(this.url, path), this.priority);
     }
 
     public RequestTemplate up(final int n) {
-      return new RequestTemplate(this.json, this.requests, new Url(this.url, n));
+      return new RequestTemplate(this.session, new Url(this.url, n), this.priority);
+    }
+
+    // Carried over to every request derived from this one
+    RequestTemplate priority(final Priority priority) {
+      return new RequestTemplate(this.session, this.url, priority);
+    }
+
+    List<String> pathParts() {
+      return this.url.getPathParts();
+    }
+
+    // Query parameters are not carried over by path(), so add them last
+    public RequestTemplate query(final @NonNull String name, final @NonNull Object value) {
+      final Url url = new Url(this.url.build());
+      url.set(name, value);
+      return new RequestTemplate(this.session, url, this.priority);
     }
 
     public Response get() throws IOException {
-      return this.response(this.requests.buildGetRequest(this.url));
+      final HttpRequest request = this.session.requests.buildGetRequest(this.url);
+      final ResponseCache cache = this.session.cache;
+      if (cache == null) {
+        return this.response(request);
+      }
+      final String key = this.url.build();
+      final ResponseCache.Entry cached = cache.get(key);
+      if (cached != null) {
+        request.getHeaders().setIfNoneMatch(cached.etag());
+        request.setThrowExceptionOnExecuteError(false);
+      }
+      final Lanes.Permit permit = this.session.lanes.acquire(this.priority);
+      // Released here unless the response is handed out unread, in which case closing it releases it
+      boolean unread = false;
+      try {
+        final HttpResponse response = this.execute(request);
+        if (cached != null) {
+          if (response.getStatusCode() == HttpStatusCodes.STATUS_CODE_NOT_MODIFIED) {
+            response.disconnect();
+            return new Response(this, cached);
+          } else if (!response.isSuccessStatusCode()) {
+            try {
+              throw new HttpResponseException(response);
+            } finally {
+              response.disconnect();
+            }
+          }
+        }
+        final String etag = response.getHeaders().getETag();
+        if (etag == null) {
+          unread = true;
+          return new Response(this, response, permit);
+        }
+        final byte[] body;
+        try (final InputStream content = response.getContent()) {
+          body = content != null ? ByteStreams.toByteArray(content) : new byte[0];
+        } finally {
+          response.disconnect();
+        }
+        final ResponseCache.Entry entry = ResponseCache.Entry.of(etag, response.getHeaders().getFirstHeaderStringValue(Link.HEADER_NAME), body);
+        cache.put(key, entry);
+        return new Response(this, entry);
+      } finally {
+        if (!unread) {
+          permit.release();
+        }
+      }
     }
 
     public Response post(final Object content) throws IOException {
-      return this.response(this.requests.buildPostRequest(this.url, this.content(content)));
+      return this.response(this.session.requests.buildPostRequest(this.url, this.content(content)));
     }
 
     public Response patch(final Object content) throws IOException {
-      return this.response(this.requests.buildPatchRequest(this.url, this.content(content)));
+      return this.response(this.session.requests.buildPatchRequest(this.url, this.content(content)));
     }
 
     public Response put(final Object content) throws IOException {
-      return this.response(this.requests.buildPutRequest(this.url, this.content(content)));
+      return this.response(this.session.requests.buildPutRequest(this.url, this.content(content)));
     }
 
     public Response delete() throws IOException {
-      return this.response(this.requests.buildDeleteRequest(this.url));
+      return this.response(this.session.requests.buildDeleteRequest(this.url));
     }
 
-    private HttpContent content(final Object object) throws JsonProcessingException {
+    private HttpContent content(final Object object) {
       if (object instanceof HttpContent) {
         return (HttpContent) object;
       }
-      return new ByteArrayContent(Json.MEDIA_TYPE, this.json.writeValueAsString(object).getBytes(StandardCharsets.UTF_8));
+      return new JsonContent(this.session.writer, object);
     }
 
     private Response response(final HttpRequest request) throws IOException {
-      return new Response(this, request.execute());
+      final Lanes.Permit permit = this.session.lanes.acquire(this.priority);
+      try {
+        return new Response(this, this.execute(request), permit);
+      } catch (final IOException | RuntimeException e) {
+        permit.release();
+        throw e;
+      }
+    }
+
+    private HttpResponse execute(final HttpRequest request) throws IOException {
+      try {
+        return request.execute();
+      } catch (final JsonContent.Unserializable e) {
+        throw e.getCause();
+      }
     }
 
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
         .add("url", this.url)
+        .add("priority", this.priority)
         .toString();
     }
   }
 
+  /**
+   * Content that serializes a document straight into the request body.
+   *
+   * <p>Jackson recycles its own buffers, so nothing but the document itself is held in memory. The length
+   * isn't known up front, so requests are sent chunked.</p>
+   *
+   * <p>A document that can't be serialized is thrown unchecked, so it isn't retried like a failure
+   * to send would be.</p>
+   */
+  static final class JsonContent extends AbstractHttpContent {
+    private final ObjectWriter writer;
+    private final Object object;
+
+    JsonContent(final ObjectWriter writer, final Object object) {
+      super(Json.MEDIA_TYPE);
+      this.writer = writer;
+      this.object = object;
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+      try {
+        this.writer.writeValue(out, this.object);
+      } catch (final JsonProcessingException e) {
+        throw new Unserializable(e);
+      }
+      out.flush();
+    }
+
+    @Override
+    protected long computeLength() {
+      return -1;
+    }
+
+    @Override
+    public boolean retrySupported() {
+      return true;
+    }
+
+    static final class Unserializable extends RuntimeException {
+      private static final long serialVersionUID = 1L;
+
+      Unserializable(final JsonProcessingException cause) {
+        super(cause);
+      }
+
+      @Override
+      public synchronized JsonProcessingException getCause() {
+        return (JsonProcessingException) super.getCause();
+      }
+    }
+  }
+
   static final class Response implements AutoCloseable {
     private final RequestTemplate request;
-    private final HttpResponse response;
+    private final @Nullable HttpResponse response;
+    private final ResponseCache.@Nullable Entry cached;
+    // The connection is only given back once the body has been read
+    private final Lanes.@Nullable Permit permit;
 
-    Response(final RequestTemplate request, final HttpResponse response) {
+    Response(final RequestTemplate request, final HttpResponse response, final Lanes.Permit permit) {
       this.request = request;
       this.response = response;
+      this.cached = null;
+      this.permit = permit;
+    }
+
+    Response(final RequestTemplate request, final ResponseCache.Entry cached) {
+      this.request = request;
+      this.response = null;
+      this.cached = cached;
+      this.permit = null;
     }
 
     <R> R as(final Class<R> type) throws IOException {
@@ -147,15 +300,22 @@ final class HTTP {
     }
 
     <R> R as(final TypeToken<R> type) throws IOException {
+      final ObjectReader reader = this.request.session.reader(type.getType());
       try {
-        return this.request.json.readValue(this.response.parseAsString(), this.request.json.getTypeFactory().constructType(type.getType()));
+        if (this.cached != null) {
+          return reader.readValue(this.cached.body());
+        }
+        // JSON is always UTF-8, so let Jackson read the bytes instead of decoding them into a String first
+        try (final InputStream content = this.response.getContent()) {
+          return reader.readValue(content);
+        }
       } finally {
         this.close();
       }
     }
 
     public @NonNull Link link() {
-      final String header = this.response.getHeaders().getFirstHeaderStringValue("Link");
+      final String header = this.cached != null ? this.cached.link() : this.response.getHeaders().getFirstHeaderStringValue(Link.HEADER_NAME);
       if (header == null) {
         return Link.Empty.INSTANCE;
       }
@@ -164,11 +324,21 @@ final class HTTP {
 
     @Override
     public void close() throws IOException {
-      this.response.disconnect();
+      try {
+        if (this.response != null) {
+          this.response.disconnect();
+        }
+      } finally {
+        if (this.permit != null) {
+          this.permit.release();
+        }
+      }
     }
   }
 
   public interface Link {
+    String HEADER_NAME = "Link";
+
     Optional<RequestTemplate> previous();
 
     Optional<RequestTemplate> next();
@@ -222,7 +392,7 @@ final class HTTP {
 
         Part(final Matcher matcher) {
           checkState(matcher.matches());
-          this.request = new RequestTemplate(Impl.this.request.json, Impl.this.request.requests, new Url(matcher.group(1)));
+          this.request = new RequestTemplate(Impl.this.request.session, new Url(matcher.group(1)), Impl.this.request.priority);
           this.rel = EQUALS_PATTERN.split(matcher.group(2))[1].trim().replace("\"", "");
         }
       }
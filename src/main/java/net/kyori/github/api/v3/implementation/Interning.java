@@ -0,0 +1,182 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.io.IOException;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Shares one instance between equal users, label values and frequently repeated strings.
+ *
+ * <p>Every pool only holds weak references, so nothing is kept alive just by being interned.
+ * When disabled, every method returns a new instance, as if interning didn't exist.</p>
+ */
+final class Interning {
+  private static final int MAX_INSTANCES = 100_000;
+  private final boolean enabled;
+  private final Interner<String> strings = Interners.newWeakInterner();
+  private final Cache<String, UserImpl> users = CacheBuilder.newBuilder()
+    .maximumSize(MAX_INSTANCES)
+    .weakValues()
+    .build();
+  // Only the values - labels themselves can be edited, and make requests with their creator's priority
+  private final Cache<String, Partial.Label> labels = CacheBuilder.newBuilder()
+    .maximumSize(MAX_INSTANCES)
+    .weakValues()
+    .build();
+
+  Interning(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Gets a handler instantiator that makes {@link Strings} intern into this pool.
+   *
+   * @return the handler instantiator, or {@code null} if disabled
+   */
+  @Nullable HandlerInstantiator handlerInstantiator() {
+    return this.enabled ? new Instantiator(new Strings(this.strings)) : null;
+  }
+
+  UserImpl user(final Partial.User user) {
+    if (!this.enabled) {
+      return new UserImpl(user.login, user.name, user.avatar_url);
+    }
+    final UserImpl existing = this.users.getIfPresent(user.login);
+    if (existing != null && Objects.equals(existing.name(), user.name) && Objects.equals(existing.avatarUrl(), user.avatar_url)) {
+      return existing;
+    }
+    // Profiles do change - the latest one we've seen becomes canonical
+    final UserImpl created = new UserImpl(user.login, user.name, user.avatar_url);
+    this.users.put(user.login, created);
+    return created;
+  }
+
+  /**
+   * Gets a label.
+   *
+   * @param labels the repository's labels - {@code /repos/{owner}/{repo}/labels}
+   * @param label the label
+   * @return the label
+   */
+  LabelImpl label(final HTTP.RequestTemplate labels, final Partial.Label label) {
+    return new LabelImpl(labels, this.labelState(label));
+  }
+
+  private Partial.Label labelState(final Partial.Label label) {
+    if (this.enabled) {
+      final Partial.Label existing = this.labels.getIfPresent(label.url);
+      if (existing != null && existing.name.equals(label.name) && Objects.equals(existing.description, label.description) && existing.color.equals(label.color)) {
+        return existing;
+      }
+    }
+    final Partial.Label state = new Partial.Label();
+    state.url = label.url;
+    state.name = label.name;
+    state.description = label.description;
+    state.color = label.color;
+    if (this.enabled) {
+      this.labels.put(label.url, state);
+    }
+    return state;
+  }
+
+  /**
+   * Deserializes strings, interning them when interning is enabled.
+   *
+   * <p>Only used on fields whose values repeat often, such as logins and label names.</p>
+   */
+  static final class Strings extends StdScalarDeserializer<String> {
+    private static final long serialVersionUID = 1L;
+    private final transient @Nullable Interner<String> strings;
+
+    // Used by Jackson when interning is disabled
+    Strings() {
+      this(null);
+    }
+
+    Strings(final @Nullable Interner<String> strings) {
+      super(String.class);
+      this.strings = strings;
+    }
+
+    @Override
+    public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+      final String value = StringDeserializer.instance.deserialize(parser, context);
+      return value != null && this.strings != null ? this.strings.intern(value) : value;
+    }
+  }
+
+  private static final class Instantiator extends HandlerInstantiator {
+    private final Strings strings;
+
+    Instantiator(final Strings strings) {
+      this.strings = strings;
+    }
+
+    @Override
+    public @Nullable JsonDeserializer<?> deserializerInstance(final DeserializationConfig config, final Annotated annotated, final Class<?> deserClass) {
+      return deserClass == Strings.class ? this.strings : null;
+    }
+
+    @Override
+    public @Nullable KeyDeserializer keyDeserializerInstance(final DeserializationConfig config, final Annotated annotated, final Class<?> keyDeserClass) {
+      return null;
+    }
+
+    @Override
+    public @Nullable JsonSerializer<?> serializerInstance(final SerializationConfig config, final Annotated annotated, final Class<?> serClass) {
+      return null;
+    }
+
+    @Override
+    public @Nullable TypeResolverBuilder<?> typeResolverBuilderInstance(final MapperConfig<?> config, final Annotated annotated, final Class<?> builderClass) {
+      return null;
+    }
+
+    @Override
+    public @Nullable TypeIdResolver typeIdResolverInstance(final MapperConfig<?> config, final Annotated annotated, final Class<?> resolverClass) {
+      return null;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import net.kyori.github.api.v3.PullRequest;
 import net.kyori.github.api.v3.Repository;
 import net.kyori.github.api.v3.User;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class IssueImpl extends AbstractIssue {
   private final Repository repository;
@@ -39,6 +40,22 @@ final class IssueImpl extends AbstractIssue {
     this.lazy = new Lazy<>(this.request, Partial.Issue.class);
   }
 
+  IssueImpl(final Repository repository, final HTTP.RequestTemplate request, final Partial.Issue partial) {
+    super(request, partial.number);
+    this.repository = repository;
+    this.lazy = new Lazy<>(partial);
+  }
+
+  @Override
+  Partial.@Nullable Issue known() {
+    return this.lazy.peek();
+  }
+
+  @Override
+  void edited(final Partial.Issue issue) {
+    this.lazy.set(issue);
+  }
+
   @Override
   public @NonNull String html_url() {
     return this.lazy.get().html_url;
@@ -46,7 +63,8 @@ final class IssueImpl extends AbstractIssue {
 
   @Override
   public @NonNull User user() {
-    return new UserImpl(this.lazy.get().user.login, this.lazy.get().user.name, this.lazy.get().user.avatar_url);
+    final Partial.User user = this.lazy.get().user;
+    return this.request.session.interning.user(user);
   }
 
   @Override
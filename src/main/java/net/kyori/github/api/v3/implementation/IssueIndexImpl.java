@@ -0,0 +1,467 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.Issue;
+import net.kyori.github.api.v3.IssueIndex;
+import net.kyori.github.api.v3.RepositoryMirror;
+import net.kyori.github.api.webhook.event.IssuesEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An issue index that stores entries as rows in primitive arrays.
+ *
+ * <p>Label, login, and milestone names are interned into catalogs, so each row only holds ints: the labels of
+ * a row are a {@link BitSet} over the label catalog of its repository. Every filter has a secondary index - a
+ * {@link BitSet} of the rows it matches - so a query is a handful of bitwise operations.</p>
+ *
+ * @since 2.0.0
+ */
+public final class IssueIndexImpl implements IssueIndex {
+  private static final int NONE = -1;
+  private static final int[] NO_ASSIGNEES = new int[0];
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Repository> repositoriesByName = new HashMap<>();
+  private final List<Repository> repositories = new ArrayList<>();
+  private final Catalog labelNames = new Catalog();
+  private final Catalog logins = new Catalog();
+  private final Catalog milestones = new Catalog();
+
+  // Rows
+  private final Deque<Integer> free = new ArrayDeque<>();
+  private int size;
+  private int[] repository = new int[INITIAL_CAPACITY];
+  private int[] number = new int[INITIAL_CAPACITY];
+  private int[] milestone = new int[INITIAL_CAPACITY];
+  // Epoch milliseconds, so events delivered late don't undo newer ones
+  private long[] updatedAt = new long[INITIAL_CAPACITY];
+  private int[][] assignees = new int[INITIAL_CAPACITY][];
+  private BitSet[] labels = new BitSet[INITIAL_CAPACITY];
+
+  // Secondary indexes
+  private final BitSet live = new BitSet();
+  private final BitSet open = new BitSet();
+  private final BitSet pullRequest = new BitSet();
+  private final BitSet unassigned = new BitSet();
+  private final BitSet noMilestone = new BitSet();
+  private final Map<Integer, BitSet> byLabel = new HashMap<>();
+  private final Map<Integer, BitSet> byAssignee = new HashMap<>();
+  private final Map<Integer, BitSet> byMilestone = new HashMap<>();
+
+  /**
+   * Creates a new, empty index.
+   *
+   * @since 2.0.0
+   */
+  public IssueIndexImpl() {
+  }
+
+  @Override
+  public void update(final @NonNull RepositoryIdentifier repository, final RepositoryMirror.@NonNull Snapshot snapshot) {
+    this.lock.writeLock().lock();
+    try {
+      final Repository indexed = this.repository(repository);
+      for (final RepositoryMirror.Entry entry : snapshot.issues().values()) {
+        this.put(indexed, entry);
+      }
+      final Set<Integer> gone = new HashSet<>(indexed.rows.keySet());
+      gone.removeAll(snapshot.issues().keySet());
+      for (final Integer number : gone) {
+        this.remove(indexed, number);
+      }
+      final Instant syncedAt = snapshot.syncedAt().orElse(null);
+      if (syncedAt != null) {
+        // The snapshot already reflects deletions from before it was synced
+        indexed.deleted.values().removeIf(deletedAt -> deletedAt.isBefore(syncedAt));
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void accept(final @NonNull IssuesEvent event) {
+    this.lock.writeLock().lock();
+    try {
+      final Repository indexed = this.repository(event.repository);
+      if (event.action == IssuesEvent.Action.DELETED || event.action == IssuesEvent.Action.TRANSFERRED) {
+        this.remove(indexed, event.issue.number);
+        indexed.deleted.put(event.issue.number, RepositoryMirrorImpl.parseUpdatedAt(event.issue.updated_at));
+      } else {
+        // Last writer wins, by when GitHub says the issue was updated - as the mirror does
+        final RepositoryMirrorImpl.EntryImpl entry = RepositoryMirrorImpl.EntryImpl.of(event.issue);
+        final Instant deletedAt = indexed.deleted.get(entry.number());
+        final Integer row = indexed.rows.get(entry.number());
+        if ((deletedAt == null || entry.updatedAt().isAfter(deletedAt)) && (row == null || entry.updatedAt().toEpochMilli() >= this.updatedAt[row])) {
+          this.put(indexed, entry);
+        }
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(final @NonNull RepositoryIdentifier repository) {
+    this.lock.writeLock().lock();
+    try {
+      final Repository indexed = this.repositoriesByName.get(repository.asString());
+      if (indexed != null) {
+        for (final Integer number : new ArrayList<>(indexed.rows.keySet())) {
+          this.remove(indexed, number);
+        }
+        indexed.deleted.clear();
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public @NonNull Query query() {
+    return new QueryImpl();
+  }
+
+  private Repository repository(final RepositoryIdentifier identifier) {
+    return this.repositoriesByName.computeIfAbsent(identifier.asString(), name -> {
+      final Repository repository = new Repository(this.repositories.size(), RepositoryIdentifier.of(identifier.user(), identifier.repo()));
+      this.repositories.add(repository);
+      return repository;
+    });
+  }
+
+  private void put(final Repository repository, final RepositoryMirror.Entry entry) {
+    Integer row = repository.rows.get(entry.number());
+    if (row == null) {
+      row = this.allocate();
+      repository.rows.put(entry.number(), row);
+      repository.members.set(row);
+      this.live.set(row);
+      this.repository[row] = repository.id;
+      this.number[row] = entry.number();
+    } else {
+      this.unindex(row);
+    }
+
+    final BitSet labels = new BitSet();
+    for (final String label : entry.labels()) {
+      final int local = repository.labels.intern(label);
+      if (local == repository.globalLabels.size()) {
+        repository.globalLabels.add(this.labelNames.intern(label));
+      }
+      labels.set(local);
+      set(this.byLabel, repository.globalLabels.get(local), row);
+    }
+    this.labels[row] = labels;
+
+    final int[] assignees = entry.assignees().isEmpty() ? NO_ASSIGNEES : new int[entry.assignees().size()];
+    int i = 0;
+    for (final String login : entry.assignees()) {
+      assignees[i] = this.logins.intern(login);
+      set(this.byAssignee, assignees[i], row);
+      i++;
+    }
+    this.assignees[row] = assignees;
+    this.unassigned.set(row, assignees.length == 0);
+
+    final String milestone = entry.milestone().orElse(null);
+    this.milestone[row] = milestone != null ? this.milestones.intern(milestone) : NONE;
+    if (milestone != null) {
+      set(this.byMilestone, this.milestone[row], row);
+    }
+    this.noMilestone.set(row, milestone == null);
+
+    this.open.set(row, entry.state() == Issue.State.OPEN);
+    this.pullRequest.set(row, entry.pullRequest());
+    this.updatedAt[row] = entry.updatedAt().toEpochMilli();
+  }
+
+  private void remove(final Repository repository, final int number) {
+    final Integer row = repository.rows.remove(number);
+    if (row != null) {
+      this.unindex(row);
+      repository.members.clear(row);
+      this.live.clear(row);
+      this.open.clear(row);
+      this.pullRequest.clear(row);
+      this.unassigned.clear(row);
+      this.noMilestone.clear(row);
+      this.labels[row] = null;
+      this.assignees[row] = null;
+      this.free.push(row);
+    }
+  }
+
+  // Clears a row from the indexes of its labels, assignees, and milestone
+  private void unindex(final int row) {
+    final Repository repository = this.repositories.get(this.repository[row]);
+    final BitSet labels = this.labels[row];
+    for (int local = labels.nextSetBit(0); local >= 0; local = labels.nextSetBit(local + 1)) {
+      this.byLabel.get(repository.globalLabels.get(local)).clear(row);
+    }
+    for (final int login : this.assignees[row]) {
+      this.byAssignee.get(login).clear(row);
+    }
+    if (this.milestone[row] != NONE) {
+      this.byMilestone.get(this.milestone[row]).clear(row);
+    }
+  }
+
+  private int allocate() {
+    final Integer free = this.free.poll();
+    if (free != null) {
+      return free;
+    }
+    if (this.size == this.number.length) {
+      final int capacity = this.size * 2;
+      this.repository = Arrays.copyOf(this.repository, capacity);
+      this.number = Arrays.copyOf(this.number, capacity);
+      this.milestone = Arrays.copyOf(this.milestone, capacity);
+      this.updatedAt = Arrays.copyOf(this.updatedAt, capacity);
+      this.assignees = Arrays.copyOf(this.assignees, capacity);
+      this.labels = Arrays.copyOf(this.labels, capacity);
+    }
+    return this.size++;
+  }
+
+  private static void set(final Map<Integer, BitSet> index, final int key, final int row) {
+    index.computeIfAbsent(key, k -> new BitSet()).set(row);
+  }
+
+  private static void and(final BitSet rows, final Map<Integer, BitSet> index, final int key) {
+    final BitSet matching = key != NONE ? index.get(key) : null;
+    if (matching != null) {
+      rows.and(matching);
+    } else {
+      rows.clear();
+    }
+  }
+
+  static final class Catalog {
+    private final Map<String, Integer> ids = new HashMap<>();
+
+    int intern(final String name) {
+      final Integer existing = this.ids.get(name);
+      if (existing != null) {
+        return existing;
+      }
+      final int id = this.ids.size();
+      this.ids.put(name, id);
+      return id;
+    }
+
+    int find(final String name) {
+      final Integer id = this.ids.get(name);
+      return id != null ? id : NONE;
+    }
+  }
+
+  static final class Repository {
+    final int id;
+    final RepositoryIdentifier identifier;
+    final Map<Integer, Integer> rows = new HashMap<>();
+    final BitSet members = new BitSet();
+    // Labels used in this repository, mapped to their id in the index-wide label catalog
+    final Catalog labels = new Catalog();
+    final List<Integer> globalLabels = new ArrayList<>();
+    // When issues were deleted, so a late event from before the deletion doesn't bring them back
+    final Map<Integer, Instant> deleted = new HashMap<>();
+
+    Repository(final int id, final RepositoryIdentifier identifier) {
+      this.id = id;
+      this.identifier = identifier;
+    }
+  }
+
+  final class QueryImpl implements Query {
+    // Filters are applied under the read lock, narrowing down the live rows
+    private final List<Consumer<BitSet>> filters = new ArrayList<>();
+
+    @Override
+    public @NonNull Query repository(final @NonNull RepositoryIdentifier repository) {
+      final String name = repository.asString();
+      this.filters.add(rows -> {
+        final Repository indexed = IssueIndexImpl.this.repositoriesByName.get(name);
+        if (indexed != null) {
+          rows.and(indexed.members);
+        } else {
+          rows.clear();
+        }
+      });
+      return this;
+    }
+
+    @Override
+    public @NonNull Query owner(final @NonNull String owner) {
+      this.filters.add(rows -> {
+        final BitSet owned = new BitSet();
+        for (final Repository repository : IssueIndexImpl.this.repositories) {
+          if (repository.identifier.user().equalsIgnoreCase(owner)) {
+            owned.or(repository.members);
+          }
+        }
+        rows.and(owned);
+      });
+      return this;
+    }
+
+    @Override
+    public @NonNull Query state(final Issue.@NonNull State state) {
+      this.filters.add(rows -> {
+        if (state == Issue.State.OPEN) {
+          rows.and(IssueIndexImpl.this.open);
+        } else {
+          rows.andNot(IssueIndexImpl.this.open);
+        }
+      });
+      return this;
+    }
+
+    @Override
+    public @NonNull Query label(final @NonNull String label) {
+      this.filters.add(rows -> and(rows, IssueIndexImpl.this.byLabel, IssueIndexImpl.this.labelNames.find(label)));
+      return this;
+    }
+
+    @Override
+    public @NonNull Query withoutLabel(final @NonNull String label) {
+      this.filters.add(rows -> {
+        final BitSet labelled = IssueIndexImpl.this.byLabel.get(IssueIndexImpl.this.labelNames.find(label));
+        if (labelled != null) {
+          rows.andNot(labelled);
+        }
+      });
+      return this;
+    }
+
+    @Override
+    public @NonNull Query assignee(final @NonNull String login) {
+      this.filters.add(rows -> and(rows, IssueIndexImpl.this.byAssignee, IssueIndexImpl.this.logins.find(login)));
+      return this;
+    }
+
+    @Override
+    public @NonNull Query unassigned() {
+      this.filters.add(rows -> rows.and(IssueIndexImpl.this.unassigned));
+      return this;
+    }
+
+    @Override
+    public @NonNull Query milestone(final @NonNull String milestone) {
+      this.filters.add(rows -> and(rows, IssueIndexImpl.this.byMilestone, IssueIndexImpl.this.milestones.find(milestone)));
+      return this;
+    }
+
+    @Override
+    public @NonNull Query noMilestone() {
+      this.filters.add(rows -> rows.and(IssueIndexImpl.this.noMilestone));
+      return this;
+    }
+
+    @Override
+    public @NonNull Query pullRequests(final boolean pullRequests) {
+      this.filters.add(rows -> {
+        if (pullRequests) {
+          rows.and(IssueIndexImpl.this.pullRequest);
+        } else {
+          rows.andNot(IssueIndexImpl.this.pullRequest);
+        }
+      });
+      return this;
+    }
+
+    @Override
+    public int count() {
+      IssueIndexImpl.this.lock.readLock().lock();
+      try {
+        return this.rows().cardinality();
+      } finally {
+        IssueIndexImpl.this.lock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public @NonNull List<Match> matches() {
+      IssueIndexImpl.this.lock.readLock().lock();
+      try {
+        final BitSet rows = this.rows();
+        final List<Match> matches = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+          matches.add(new MatchImpl(IssueIndexImpl.this.repositories.get(IssueIndexImpl.this.repository[row]).identifier, IssueIndexImpl.this.number[row]));
+        }
+        return matches;
+      } finally {
+        IssueIndexImpl.this.lock.readLock().unlock();
+      }
+    }
+
+    private BitSet rows() {
+      final BitSet rows = (BitSet) IssueIndexImpl.this.live.clone();
+      for (final Consumer<BitSet> filter : this.filters) {
+        if (rows.isEmpty()) {
+          break;
+        }
+        filter.accept(rows);
+      }
+      return rows;
+    }
+  }
+
+  static final class MatchImpl implements Match {
+    private final RepositoryIdentifier repository;
+    private final int number;
+
+    MatchImpl(final RepositoryIdentifier repository, final int number) {
+      this.repository = repository;
+      this.number = number;
+    }
+
+    @Override
+    public @NonNull RepositoryIdentifier repository() {
+      return this.repository;
+    }
+
+    @Override
+    public int number() {
+      return this.number;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.util.Arrays;
 import net.kyori.github.api.v3.IssueLabels;
 import net.kyori.github.api.v3.Label;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reactivestreams.Publisher;
 
 final class IssueLabelsImpl implements IssueLabels {
   private final HTTP.RequestTemplate request;
@@ -39,10 +40,19 @@ final class IssueLabelsImpl implements IssueLabels {
   @Override
   @SuppressWarnings("RedundantThrows")
   public @NonNull Iterable<Label> all() throws IOException {
+    return this.pages();
+  }
+
+  @Override
+  public @NonNull Publisher<Label> publisher() {
+    return this.pages().publisher();
+  }
+
+  private Paginated<Label> pages() {
     return new Paginated<>(
       this.request,
       Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
-      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Label[].class)).map(label -> new LabelImpl(this.request.up(3), label.url, label.name, label.description, label.color)))
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Label[].class)).map(label -> this.request.session.interning.label(this.request.up(3), label)))
     );
   }
 
@@ -24,12 +24,20 @@
 package net.kyori.github.api.v3.implementation;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.kyori.github.api.v3.Issue;
 import net.kyori.github.api.v3.Issues;
 import net.kyori.github.api.v3.Repository;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactivestreams.Publisher;
 
 final class IssuesImpl implements Issues {
+  private static final int PAGE_SIZE = 100;
   private final Repository repository;
   private final HTTP.RequestTemplate request;
 
@@ -46,6 +54,118 @@ final class IssuesImpl implements Issues {
   @Override
   public <C extends Issue.AbstractCreate> @NonNull Issue create(final @NonNull C create) throws IOException {
     final Partial.Issue issue = this.request.post(create).as(Partial.Issue.class);
-    return new CreatedIssue(this.request, issue);
+    return new IssueImpl(this.repository, this.request, issue);
+  }
+
+  @Override
+  public @NonNull Query query() {
+    return new QueryImpl();
+  }
+
+  final class QueryImpl implements Query {
+    private String state = "open";
+    private String @Nullable [] labels;
+    private @Nullable String assignee;
+    private @Nullable String creator;
+    private @Nullable Instant since;
+    private @Nullable Sort sort;
+    private @Nullable Direction direction;
+
+    @Override
+    public @NonNull Query state(final Issue.@NonNull State state) {
+      this.state = state.name().toLowerCase(Locale.ROOT);
+      return this;
+    }
+
+    @Override
+    public @NonNull Query anyState() {
+      this.state = "all";
+      return this;
+    }
+
+    @Override
+    public @NonNull Query labels(final @NonNull String... labels) {
+      this.labels = labels;
+      return this;
+    }
+
+    @Override
+    public @NonNull Query assignee(final @NonNull String login) {
+      this.assignee = login;
+      return this;
+    }
+
+    @Override
+    public @NonNull Query creator(final @NonNull String login) {
+      this.creator = login;
+      return this;
+    }
+
+    @Override
+    public @NonNull Query since(final @NonNull Instant since) {
+      this.since = since;
+      return this;
+    }
+
+    @Override
+    public @NonNull Query sort(final @NonNull Sort sort) {
+      this.sort = sort;
+      return this;
+    }
+
+    @Override
+    public @NonNull Query direction(final @NonNull Direction direction) {
+      this.direction = direction;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("RedundantThrows")
+    public @NonNull Iterable<Issue> all() throws IOException {
+      return this.pages();
+    }
+
+    @Override
+    public @NonNull Stream<Issue> stream() throws IOException {
+      return StreamSupport.stream(this.all().spliterator(), false);
+    }
+
+    @Override
+    public @NonNull Publisher<Issue> publisher() {
+      return this.pages().publisher();
+    }
+
+    private Paginated<Issue> pages() {
+      return new Paginated<>(
+        this.request(),
+        Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+        Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Issue[].class)).map(issue -> new IssueImpl(IssuesImpl.this.repository, IssuesImpl.this.request, issue)))
+      );
+    }
+
+    private HTTP.RequestTemplate request() {
+      HTTP.RequestTemplate request = IssuesImpl.this.request
+        .query("state", this.state)
+        .query("per_page", PAGE_SIZE);
+      if (this.labels != null && this.labels.length > 0) {
+        request = request.query("labels", String.join(",", this.labels));
+      }
+      if (this.assignee != null) {
+        request = request.query("assignee", this.assignee);
+      }
+      if (this.creator != null) {
+        request = request.query("creator", this.creator);
+      }
+      if (this.since != null) {
+        request = request.query("since", this.since.toString());
+      }
+      if (this.sort != null) {
+        request = request.query("sort", this.sort.name().toLowerCase(Locale.ROOT));
+      }
+      if (this.direction != null) {
+        request = request.query("direction", this.direction.name().toLowerCase(Locale.ROOT));
+      }
+      return request;
+    }
   }
 }
@@ -25,53 +25,84 @@ package net.kyori.github.api.v3.implementation;
 
 import com.google.common.base.MoreObjects;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import net.kyori.github.api.v3.Label;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class LabelImpl implements Label {
-  private final HTTP.RequestTemplate request;
-  private final String url;
-  private final String name;
-  private final String description;
-  private final String color;
+  private final HTTP.RequestTemplate labels;
+  // Replaced after an edit, as edits can rename the label - never changed in place, as it may be interned
+  private volatile Partial.Label state;
 
-  LabelImpl(final HTTP.RequestTemplate request, final String url, final String name, final String description, final String color) {
-    this.request = request.path(name);
-    this.url = url;
-    this.name = name;
-    this.description = description;
-    this.color = color;
+  LabelImpl(final HTTP.RequestTemplate request, final Partial.Label state) {
+    this.labels = request;
+    this.state = state;
+  }
+
+  private HTTP.RequestTemplate request() {
+    return this.labels.path(this.state.name);
   }
 
   @Override
   public @NonNull String url() {
-    return this.url;
+    return this.state.url;
   }
 
   @Override
   public @NonNull String name() {
-    return this.name;
+    return this.state.name;
   }
 
   @Override
   public @NonNull String description() {
-    return this.description;
+    return this.state.description;
   }
 
   @Override
   public @NonNull String color() {
-    return this.color;
+    return this.state.color;
   }
 
   @Override
-  public <E extends Edit> void edit(final @NonNull E edit) throws IOException {
-    this.request.patch(edit).close();
+  public <E extends Edit> boolean edit(final @NonNull E edit) throws IOException {
+    Map<String, Object> changes = this.changes(edit, this.state);
+    if (changes.isEmpty()) {
+      // What we know may be stale - make sure the edit really is a no-op before dropping it
+      final Partial.Label fresh = this.request().get().as(Partial.Label.class);
+      this.state = fresh;
+      changes = this.changes(edit, fresh);
+      if (changes.isEmpty()) {
+        return false;
+      }
+    }
+    // Labels are renamed through new_name, as name identifies the label being edited
+    if (changes.containsKey("name")) {
+      changes.put("new_name", changes.remove("name"));
+    }
+    this.state = this.request().patch(changes).as(Partial.Label.class);
+    return true;
+  }
+
+  private Map<String, Object> changes(final Edit edit, final Partial.Label current) {
+    final Map<String, Object> state = new HashMap<>();
+    state.put("name", current.name);
+    state.put("description", current.description);
+    state.put("color", current.color);
+    final Map<String, Object> changes = Edits.changes(this.labels.session.json, edit, state);
+    // Colors are hex, which GitHub doesn't care about the case of
+    final Object color = changes.get("color");
+    if (color instanceof String && current.color != null && ((String) color).toLowerCase(Locale.ROOT).equals(current.color.toLowerCase(Locale.ROOT))) {
+      changes.remove("color");
+    }
+    return changes;
   }
 
   @Override
   public void delete() throws IOException {
-    this.request.delete().close();
+    this.request().delete().close();
   }
 
   @Override
@@ -79,21 +110,22 @@ final class LabelImpl implements Label {
     if (this == other) return true;
     if (!(other instanceof Label)) return false;
     final Label that = (Label) other;
-    return this.url.equals(that.url()) && this.name.equals(that.name()) && this.color.equals(that.color());
+    return this.url().equals(that.url()) && this.name().equals(that.name()) && this.color().equals(that.color());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.url, this.name, this.color);
+    return Objects.hash(this.url(), this.name(), this.color());
   }
 
   @Override
   public String toString() {
+    final Partial.Label state = this.state;
     return MoreObjects.toStringHelper(this)
-      .add("url", this.url)
-      .add("name", this.name)
-      .add("description", this.description)
-      .add("color", this.color)
+      .add("url", state.url)
+      .add("name", state.name)
+      .add("description", state.description)
+      .add("color", state.color)
       .toString();
   }
 }
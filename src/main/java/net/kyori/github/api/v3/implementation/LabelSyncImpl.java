@@ -0,0 +1,327 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.LabelSync;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class LabelSyncImpl implements LabelSync {
+  private static final int PAGE_SIZE = 100;
+  private final HTTP.RequestTemplate repos;
+  // Desired labels and renames, keyed by lower-case name - GitHub label names are case-insensitive
+  private final Map<String, Desired> labels;
+  private final Map<String, String> renames;
+  private final boolean deleteUnknown;
+  private final int parallelism;
+  private final int requestBudget;
+
+  LabelSyncImpl(final HTTP.RequestTemplate request, final Map<String, Desired> labels, final Map<String, String> renames, final boolean deleteUnknown, final int parallelism, final int requestBudget) {
+    this.repos = request.path("repos");
+    this.labels = labels;
+    this.renames = renames;
+    this.deleteUnknown = deleteUnknown;
+    this.parallelism = parallelism;
+    this.requestBudget = requestBudget;
+  }
+
+  private static String key(final String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public @NonNull Plan plan(final @NonNull Iterable<? extends RepositoryIdentifier> repositories) throws IOException {
+    final Queue<ChangeImpl> changes = new ConcurrentLinkedQueue<>();
+    Workers.forEach(this.repos.session.executor, this.parallelism, Lists.newArrayList(repositories), repository -> changes.addAll(this.diff(repository, this.load(repository))));
+    return new PlanImpl(ImmutableList.copyOf(changes));
+  }
+
+  private Map<String, Partial.Label> load(final RepositoryIdentifier repository) {
+    final Map<String, Partial.Label> labels = new LinkedHashMap<>();
+    final Paginated<Partial.Label> pages = new Paginated<>(
+      this.labels(repository).query("per_page", PAGE_SIZE),
+      Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Label[].class)))
+    );
+    for (final Partial.Label label : pages) {
+      labels.put(key(label.name), label);
+    }
+    return labels;
+  }
+
+  private HTTP.RequestTemplate labels(final RepositoryIdentifier repository) {
+    return this.repos.path(repository.user(), repository.repo(), "labels");
+  }
+
+  private List<ChangeImpl> diff(final RepositoryIdentifier repository, final Map<String, Partial.Label> existing) {
+    // Renames first, so the label keeps its issues, then creates, then deletes
+    final List<ChangeImpl> renames = new ArrayList<>();
+    final List<ChangeImpl> creates = new ArrayList<>();
+    final List<ChangeImpl> updates = new ArrayList<>();
+    final Set<String> matched = new HashSet<>();
+    for (final Map.Entry<String, Desired> entry : this.labels.entrySet()) {
+      final Desired desired = entry.getValue();
+      Partial.Label current = existing.get(entry.getKey());
+      if (current == null) {
+        for (final Map.Entry<String, String> rename : this.renames.entrySet()) {
+          final Partial.Label from = existing.get(rename.getKey());
+          if (rename.getValue().equals(entry.getKey()) && from != null && !matched.contains(rename.getKey())) {
+            current = from;
+            break;
+          }
+        }
+      }
+      if (current == null) {
+        creates.add(new ChangeImpl(repository, Change.Action.CREATE, desired.name, null, desired.color, desired.description));
+        continue;
+      }
+      matched.add(key(current.name));
+      final String newName = !current.name.equals(desired.name) ? desired.name : null;
+      final String color = !desired.color.equalsIgnoreCase(current.color) ? desired.color : null;
+      final String description = !desired.description.equals(Objects.toString(current.description, "")) ? desired.description : null;
+      if (newName != null || color != null || description != null) {
+        (newName != null ? renames : updates).add(new ChangeImpl(repository, Change.Action.UPDATE, current.name, newName, color, description));
+      }
+    }
+    final List<ChangeImpl> changes = new ArrayList<>(renames);
+    changes.addAll(updates);
+    changes.addAll(creates);
+    if (this.deleteUnknown) {
+      for (final Map.Entry<String, Partial.Label> entry : existing.entrySet()) {
+        if (!matched.contains(entry.getKey())) {
+          changes.add(new ChangeImpl(repository, Change.Action.DELETE, entry.getValue().name, null, null, null));
+        }
+      }
+    }
+    return changes;
+  }
+
+  static final class Desired {
+    final String name;
+    final String color;
+    final String description;
+
+    Desired(final String name, final String color, final String description) {
+      this.name = name;
+      this.color = color;
+      this.description = description;
+    }
+  }
+
+  final class PlanImpl implements Plan {
+    private final List<Change> changes;
+
+    PlanImpl(final List<Change> changes) {
+      this.changes = changes;
+    }
+
+    @Override
+    public @NonNull List<Change> changes() {
+      return this.changes;
+    }
+
+    @Override
+    public @NonNull List<Change> apply() throws IOException {
+      final Map<RepositoryIdentifier, List<ChangeImpl>> byRepository = new LinkedHashMap<>();
+      for (final Change change : this.changes) {
+        byRepository.computeIfAbsent(change.repository(), repository -> new ArrayList<>()).add((ChangeImpl) change);
+      }
+      final AtomicInteger budget = new AtomicInteger(LabelSyncImpl.this.requestBudget);
+      final Queue<Change> applied = new ConcurrentLinkedQueue<>();
+      final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+      Workers.forEach(LabelSyncImpl.this.repos.session.executor, LabelSyncImpl.this.parallelism, byRepository.values(), changes -> {
+        for (final ChangeImpl change : changes) {
+          if (budget.getAndDecrement() <= 0) {
+            return;
+          }
+          try {
+            LabelSyncImpl.this.apply(change);
+          } catch (final IOException | RuntimeException e) {
+            // Later changes may depend on this one, such as a create after a rename - leave the rest of this repository alone
+            failures.add(e);
+            return;
+          }
+          applied.add(change);
+        }
+      });
+      final Exception failure = failures.poll();
+      if (failure != null) {
+        final ApplyException exception = new ApplyException(ImmutableList.copyOf(applied), failure);
+        for (final Exception other : failures) {
+          exception.addSuppressed(other);
+        }
+        throw exception;
+      }
+      return ImmutableList.copyOf(applied);
+    }
+  }
+
+  private void apply(final ChangeImpl change) throws IOException {
+    final HTTP.RequestTemplate labels = this.labels(change.repository);
+    final Map<String, Object> body = new HashMap<>();
+    switch (change.action) {
+      case CREATE:
+        body.put("name", change.name);
+        body.put("color", change.color);
+        body.put("description", change.description);
+        labels.post(body).close();
+        break;
+      case UPDATE:
+        if (change.newName != null) body.put("new_name", change.newName);
+        if (change.color != null) body.put("color", change.color);
+        if (change.description != null) body.put("description", change.description);
+        labels.path(change.name).patch(body).close();
+        break;
+      case DELETE:
+        labels.path(change.name).delete().close();
+        break;
+    }
+  }
+
+  static final class ChangeImpl implements Change {
+    final RepositoryIdentifier repository;
+    final Change.Action action;
+    final String name;
+    final @Nullable String newName;
+    final @Nullable String color;
+    final @Nullable String description;
+
+    ChangeImpl(final RepositoryIdentifier repository, final Change.Action action, final String name, final @Nullable String newName, final @Nullable String color, final @Nullable String description) {
+      this.repository = repository;
+      this.action = action;
+      this.name = name;
+      this.newName = newName;
+      this.color = color;
+      this.description = description;
+    }
+
+    @Override
+    public @NonNull RepositoryIdentifier repository() {
+      return this.repository;
+    }
+
+    @Override
+    public @NonNull Action action() {
+      return this.action;
+    }
+
+    @Override
+    public @NonNull String name() {
+      return this.name;
+    }
+
+    @Override
+    public @NonNull Optional<String> newName() {
+      return Optional.ofNullable(this.newName);
+    }
+
+    @Override
+    public @NonNull Optional<String> color() {
+      return Optional.ofNullable(this.color);
+    }
+
+    @Override
+    public @NonNull Optional<String> description() {
+      return Optional.ofNullable(this.description);
+    }
+
+    @Override
+    public String toString() {
+      return this.repository.asString() + ": " + this.action + ' ' + this.name
+        + (this.newName != null ? " -> " + this.newName : "")
+        + (this.color != null ? " color=" + this.color : "")
+        + (this.description != null ? " description=" + this.description : "");
+    }
+  }
+
+  static final class BuilderImpl implements Builder {
+    private final HTTP.RequestTemplate request;
+    private final Map<String, Desired> labels = new LinkedHashMap<>();
+    private final Map<String, String> renames = new LinkedHashMap<>();
+    private boolean deleteUnknown;
+    private int parallelism = 4;
+    private int requestBudget = Integer.MAX_VALUE;
+
+    BuilderImpl(final HTTP.RequestTemplate request) {
+      this.request = request;
+    }
+
+    @Override
+    public @NonNull Builder label(final @NonNull String name, final @NonNull String color, final @NonNull String description) {
+      this.labels.put(key(name), new Desired(name, color, description));
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder rename(final @NonNull String from, final @NonNull String to) {
+      this.renames.put(key(from), key(to));
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder deleteUnknown(final boolean deleteUnknown) {
+      this.deleteUnknown = deleteUnknown;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder parallelism(final int parallelism) {
+      if (parallelism < 1) {
+        throw new IllegalArgumentException("parallelism must be at least 1");
+      }
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder requestBudget(final int requestBudget) {
+      this.requestBudget = requestBudget;
+      return this;
+    }
+
+    @Override
+    public @NonNull LabelSync build() {
+      return new LabelSyncImpl(this.request, Collections.unmodifiableMap(new LinkedHashMap<>(this.labels)), Collections.unmodifiableMap(new LinkedHashMap<>(this.renames)), this.deleteUnknown, this.parallelism, this.requestBudget);
+    }
+  }
+}
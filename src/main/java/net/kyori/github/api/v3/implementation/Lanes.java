@@ -0,0 +1,170 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpResponseInterceptor;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.kyori.github.api.v3.Priority;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Schedules requests by {@link Priority priority}.
+ *
+ * <p>Interactive requests may use every connection and all of the rate limit. Bulk requests are held
+ * back from a reserve of both, so a long running bulk job never leaves interactive requests waiting
+ * for a connection, or out of rate limit.</p>
+ *
+ * <p>A request holds its place in a lane until its response has been read, as that is when its connection
+ * goes back to the pool.</p>
+ */
+final class Lanes {
+  private static final String RESOURCE = "x-ratelimit-resource";
+  private static final String LIMIT = "x-ratelimit-limit";
+  private static final String REMAINING = "x-ratelimit-remaining";
+  private static final String RESET = "x-ratelimit-reset";
+  private final Semaphore all;
+  private final Semaphore bulk;
+  private final int reservedRate;
+  // The core rate limit, as of the latest response
+  private volatile long limit = Long.MAX_VALUE;
+  private volatile long remaining = Long.MAX_VALUE;
+  private volatile long resetMillis;
+
+  Lanes(final int concurrency, final int reservedConcurrency, final int reservedRate) {
+    this.all = new Semaphore(concurrency, true);
+    this.bulk = new Semaphore(concurrency - reservedConcurrency, true);
+    this.reservedRate = reservedRate;
+  }
+
+  Permit acquire(final Priority priority) throws IOException {
+    if (priority == Priority.INTERACTIVE) {
+      acquire(this.all);
+      return new Permit(this.all, null);
+    }
+    this.awaitRate();
+    acquire(this.bulk);
+    try {
+      acquire(this.all);
+    } catch (final IOException e) {
+      this.bulk.release();
+      throw e;
+    }
+    return new Permit(this.all, this.bulk);
+  }
+
+  private static void acquire(final Semaphore lane) throws InterruptedIOException {
+    try {
+      lane.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to make a request");
+    }
+  }
+
+  // Wait out the rest of the rate limit window once only the reserve is left
+  private void awaitRate() throws InterruptedIOException {
+    // Never reserve so much of a small limit, such as an unauthenticated one, that bulk requests get none of it
+    while (this.remaining <= Math.min(this.reservedRate, this.limit / 10)) {
+      final long wait = this.resetMillis - System.currentTimeMillis();
+      if (wait <= 0) {
+        return; // the window has reset, the next response will say by how much
+      }
+      try {
+        Thread.sleep(wait);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the rate limit to reset");
+      }
+    }
+  }
+
+  void observe(final HttpHeaders headers) {
+    final String resource = headers.getFirstHeaderStringValue(RESOURCE);
+    if (resource != null && !resource.equals("core")) {
+      return; // search and others have limits of their own
+    }
+    final String limit = headers.getFirstHeaderStringValue(LIMIT);
+    final String remaining = headers.getFirstHeaderStringValue(REMAINING);
+    final String reset = headers.getFirstHeaderStringValue(RESET);
+    if (limit == null || remaining == null || reset == null) {
+      return; // not rate limited
+    }
+    try {
+      this.limit = Long.parseLong(limit);
+      this.resetMillis = Long.parseLong(reset) * 1000;
+      this.remaining = Long.parseLong(remaining);
+    } catch (final NumberFormatException ignored) {
+      // not worth failing a request over
+    }
+  }
+
+  /**
+   * A place in the lanes, held until released.
+   */
+  static final class Permit {
+    private final Semaphore all;
+    private final @Nullable Semaphore bulk;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    Permit(final Semaphore all, final @Nullable Semaphore bulk) {
+      this.all = all;
+      this.bulk = bulk;
+    }
+
+    void release() {
+      if (this.released.compareAndSet(false, true)) {
+        this.all.release();
+        if (this.bulk != null) {
+          this.bulk.release();
+        }
+      }
+    }
+  }
+
+  /**
+   * Keeps track of the rate limit left, from the headers of every response.
+   */
+  static final class Interceptor implements HttpResponseInterceptor {
+    private final Lanes lanes;
+    private final @Nullable HttpResponseInterceptor delegate;
+
+    Interceptor(final Lanes lanes, final @Nullable HttpResponseInterceptor delegate) {
+      this.lanes = lanes;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void interceptResponse(final HttpResponse response) throws IOException {
+      this.lanes.observe(response.getHeaders());
+      if (this.delegate != null) {
+        this.delegate.interceptResponse(response);
+      }
+    }
+  }
+}
@@ -23,13 +23,25 @@
  */
 package net.kyori.github.api.v3.implementation;
 
-import com.google.common.base.Suppliers;
 import com.google.common.reflect.TypeToken;
 import java.io.IOException;
-import java.util.function.Supplier;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class Lazy<T> {
-  private final Supplier<T> json;
+  // Not a monitor - the fetch blocks on the network, which would pin a virtual thread
+  private final Lock lock = new ReentrantLock();
+  private final Hacks.@Nullable ThrowingSupplier<T, IOException> fetch;
+  private volatile @Nullable T json;
+  // Newer than what was fetched, such as the response to an edit
+  private volatile @Nullable T updated;
+
+  // Already fetched, such as part of a listing
+  Lazy(final T json) {
+    this.fetch = null;
+    this.json = json;
+  }
 
   Lazy(final HTTP.RequestTemplate request, final Class<T> type) {
     this(request, TypeToken.of(type));
@@ -44,10 +56,39 @@ final class Lazy<T> {
   }
 
   Lazy(final Hacks.ThrowingSupplier<HTTP.Response, IOException> requestExecutor, final TypeToken<T> type) {
-    this.json = Suppliers.memoize(Hacks.ThrowingSupplier.of(() -> requestExecutor.get().as(type)));
+    this.fetch = () -> requestExecutor.get().as(type);
   }
 
   T get() {
-    return this.json.get();
+    final T updated = this.updated;
+    if (updated != null) {
+      return updated;
+    }
+    final T json = this.json;
+    return json != null ? json : this.fetch();
+  }
+
+  // What is known, without fetching it
+  @Nullable T peek() {
+    final T updated = this.updated;
+    return updated != null ? updated : this.json;
+  }
+
+  private T fetch() {
+    this.lock.lock();
+    try {
+      T json = this.json;
+      if (json == null) {
+        json = Hacks.ThrowingSupplier.of(this.fetch).get();
+        this.json = json;
+      }
+      return json;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  void set(final T json) {
+    this.updated = json;
   }
 }
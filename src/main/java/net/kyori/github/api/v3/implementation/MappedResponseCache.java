@@ -0,0 +1,425 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import net.kyori.github.api.v3.ResponseCache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A response cache stored in memory-mapped, append-only segment files.
+ *
+ * <p>A record only counts once its checksum matches, so a record torn by a crash is ignored - along
+ * with anything after it in the same segment - when the cache is next opened. Entries are never
+ * served without being revalidated, so a stale entry can at worst cost a full response.</p>
+ *
+ * <p>When the cache is full the oldest segment is dropped. Entries in the oldest segment that are
+ * used are first copied forward into the newest segment, keeping recently used entries around.</p>
+ *
+ * @since 2.0.0
+ */
+public final class MappedResponseCache implements ResponseCache {
+  private static final String SEGMENT_SUFFIX = ".segment";
+  private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+  private static final int MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+  private static final int MIN_SEGMENTS = 2;
+  private static final int RECORD_MAGIC = 0x49474331; // IGC1
+  // magic, record length, checksum
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+  // key length, etag length, link length, uncompressed body length
+  private static final int PAYLOAD_HEADER_SIZE = 4 * Integer.BYTES;
+
+  /**
+   * Opens a cache stored in {@code directory}, loading any entries stored there.
+   *
+   * @param directory the directory to store the cache in
+   * @param maxBytes the maximum size of the cache on disk, in bytes
+   * @return the cache
+   * @throws IOException if an exception occurs while opening the cache
+   * @since 2.0.0
+   */
+  public static @NonNull MappedResponseCache open(final @NonNull Path directory, final long maxBytes) throws IOException {
+    final int segmentSize = (int) Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, maxBytes / MIN_SEGMENTS));
+    final int maxSegments = (int) Math.max(MIN_SEGMENTS, maxBytes / segmentSize);
+    final MappedResponseCache cache = new MappedResponseCache(directory, segmentSize, maxSegments);
+    cache.load();
+    return cache;
+  }
+
+  private final Path directory;
+  private final int segmentSize;
+  private final int maxSegments;
+  // Oldest first - new records are only ever appended to the last segment
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  private final Map<String, Location> index = new HashMap<>();
+  // Not a monitor - rolling a segment does file I/O, which would pin a virtual thread
+  private final Lock lock = new ReentrantLock();
+  private long nextSegmentId;
+  private boolean closed;
+
+  private MappedResponseCache(final Path directory, final int segmentSize, final int maxSegments) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = maxSegments;
+  }
+
+  private void load() throws IOException {
+    Files.createDirectories(this.directory);
+    final List<Path> files = new ArrayList<>();
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + SEGMENT_SUFFIX)) {
+      for (final Path file : stream) {
+        files.add(file);
+      }
+    }
+    // Segment ids are fixed-width hex, so this sorts oldest first
+    files.sort((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+    for (final Path file : files) {
+      final String name = file.getFileName().toString();
+      final long id;
+      try {
+        id = Long.parseUnsignedLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()), 16);
+      } catch (final NumberFormatException e) {
+        continue;
+      }
+      final Segment segment = new Segment(file, this.segmentSize);
+      segment.scan(this);
+      this.segments.addLast(segment);
+      this.nextSegmentId = id + 1;
+    }
+    while (this.segments.size() > this.maxSegments) {
+      this.evict(this.segments.removeFirst());
+    }
+    if (this.segments.isEmpty()) {
+      this.roll();
+    }
+  }
+
+  @Override
+  public @Nullable Entry get(final @NonNull String url) {
+    final Location location;
+    final byte[] payload;
+    this.lock.lock();
+    try {
+      location = this.index.get(url);
+      if (location == null) {
+        return null;
+      }
+      payload = new byte[location.length - HEADER_SIZE];
+      location.payload().get(payload);
+      if (location.segment == this.segments.peekFirst() && this.segments.size() >= this.maxSegments) {
+        // This entry is about to be evicted along with its segment, but it's still in use - give it another lease
+        this.append(url, payload);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+    // Only the copy is needed from here - inflating can take a while, and shouldn't hold up other lookups
+    try {
+      return read(ByteBuffer.wrap(payload));
+    } catch (final DataFormatException e) {
+      this.lock.lock();
+      try {
+        final Location current = this.index.get(url);
+        if (current != null && current.segment == location.segment && current.position == location.position) {
+          this.index.remove(url);
+        }
+      } finally {
+        this.lock.unlock();
+      }
+      return null;
+    }
+  }
+
+  @Override
+  public void put(final @NonNull String url, final @NonNull Entry entry) {
+    final byte[] payload = write(url, entry);
+    this.lock.lock();
+    try {
+      this.append(url, payload);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void force() {
+    this.lock.lock();
+    try {
+      for (final Segment segment : this.segments) {
+        segment.buffer.force();
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    this.lock.lock();
+    try {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      for (final Segment segment : this.segments) {
+        segment.buffer.force();
+      }
+      // Nothing can reach the segments after this - their mappings are released once they are garbage collected
+      this.index.clear();
+      this.segments.clear();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void append(final String url, final byte[] payload) {
+    final int length = HEADER_SIZE + payload.length;
+    if (this.closed || length > this.segmentSize) {
+      return; // too big to be worth caching
+    }
+    try {
+      Segment segment = this.segments.peekLast();
+      if (segment == null || segment.position + length > segment.buffer.capacity()) {
+        segment = this.roll();
+      }
+      final int position = segment.position;
+      final ByteBuffer buffer = segment.buffer.duplicate();
+      buffer.position(position + HEADER_SIZE);
+      buffer.put(payload);
+      final CRC32 checksum = new CRC32();
+      checksum.update(payload, 0, payload.length);
+      buffer.putInt(position + Integer.BYTES, length);
+      buffer.putInt(position + 2 * Integer.BYTES, (int) checksum.getValue());
+      // The magic goes in last, so the record never looks complete before it is
+      buffer.putInt(position, RECORD_MAGIC);
+      segment.position = position + length;
+      this.index.put(url, new Location(segment, position, length));
+    } catch (final IOException ignored) {
+      // Caching is best-effort
+    }
+  }
+
+  private Segment roll() throws IOException {
+    final Path file = this.directory.resolve(String.format("%016x%s", this.nextSegmentId++, SEGMENT_SUFFIX));
+    final Segment segment = new Segment(file, this.segmentSize);
+    this.segments.addLast(segment);
+    while (this.segments.size() > this.maxSegments) {
+      this.evict(this.segments.removeFirst());
+    }
+    return segment;
+  }
+
+  private void evict(final Segment segment) {
+    this.index.values().removeIf(location -> location.segment == segment);
+    try {
+      // The mapping itself lingers until it is garbage collected
+      Files.deleteIfExists(segment.file);
+    } catch (final IOException ignored) {
+      // It'll be evicted again on the next open
+    }
+  }
+
+  private static byte[] write(final String url, final Entry entry) {
+    final byte[] key = url.getBytes(StandardCharsets.UTF_8);
+    final byte[] etag = entry.etag().getBytes(StandardCharsets.UTF_8);
+    final String link = entry.link();
+    final byte[] linkBytes = link != null ? link.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    final byte[] body = entry.body();
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(PAYLOAD_HEADER_SIZE + key.length + etag.length + linkBytes.length + body.length / 4);
+    final ByteBuffer header = ByteBuffer.allocate(PAYLOAD_HEADER_SIZE);
+    header.putInt(key.length).putInt(etag.length).putInt(link != null ? linkBytes.length : -1).putInt(body.length);
+    out.write(header.array(), 0, PAYLOAD_HEADER_SIZE);
+    out.write(key, 0, key.length);
+    out.write(etag, 0, etag.length);
+    out.write(linkBytes, 0, linkBytes.length);
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      final byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+    } finally {
+      deflater.end();
+    }
+    return out.toByteArray();
+  }
+
+  private static Entry read(final ByteBuffer payload) throws DataFormatException {
+    final int keyLength = payload.getInt();
+    final int etagLength = payload.getInt();
+    final int linkLength = payload.getInt();
+    final int bodyLength = payload.getInt();
+    payload.position(payload.position() + keyLength);
+    final String etag = string(payload, etagLength);
+    final String link = linkLength >= 0 ? string(payload, linkLength) : null;
+    final byte[] compressed = new byte[payload.remaining()];
+    payload.get(compressed);
+    final byte[] body = new byte[bodyLength];
+    final Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      int read = 0;
+      while (read < bodyLength && !inflater.finished()) {
+        final int n = inflater.inflate(body, read, bodyLength - read);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Truncated body");
+        }
+        read += n;
+      }
+    } finally {
+      inflater.end();
+    }
+    return new EntryImpl(etag, link, body);
+  }
+
+  private static String string(final ByteBuffer buffer, final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static final class Segment {
+    final Path file;
+    final MappedByteBuffer buffer;
+    int position;
+
+    Segment(final Path file, final int size) throws IOException {
+      this.file = file;
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        // Mapping past the end of the file grows it - existing segments keep their size
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+      }
+    }
+
+    void scan(final MappedResponseCache cache) {
+      final int capacity = this.buffer.capacity();
+      int position = 0;
+      while (position + HEADER_SIZE + PAYLOAD_HEADER_SIZE <= capacity && this.buffer.getInt(position) == RECORD_MAGIC) {
+        final int length = this.buffer.getInt(position + Integer.BYTES);
+        if (length < HEADER_SIZE + PAYLOAD_HEADER_SIZE || length > capacity - position) {
+          break;
+        }
+        final ByteBuffer payload = this.buffer.duplicate();
+        payload.position(position + HEADER_SIZE).limit(position + length);
+        final CRC32 checksum = new CRC32();
+        checksum.update(payload.duplicate());
+        if ((int) checksum.getValue() != this.buffer.getInt(position + 2 * Integer.BYTES)) {
+          break;
+        }
+        final int keyLength = payload.getInt();
+        if (keyLength < 0 || keyLength > payload.remaining() - (PAYLOAD_HEADER_SIZE - Integer.BYTES)) {
+          break;
+        }
+        payload.position(payload.position() + PAYLOAD_HEADER_SIZE - Integer.BYTES);
+        // Later records replace earlier ones
+        cache.index.put(string(payload, keyLength), new Location(this, position, length));
+        position += length;
+      }
+      this.position = position;
+    }
+  }
+
+  private static final class Location {
+    final Segment segment;
+    final int position;
+    final int length;
+
+    Location(final Segment segment, final int position, final int length) {
+      this.segment = segment;
+      this.position = position;
+      this.length = length;
+    }
+
+    ByteBuffer payload() {
+      final ByteBuffer payload = this.segment.buffer.duplicate();
+      payload.position(this.position + HEADER_SIZE).limit(this.position + this.length);
+      return payload.slice();
+    }
+  }
+
+  /**
+   * A cached response.
+   *
+   * @since 2.0.0
+   */
+  public static final class EntryImpl implements Entry {
+    private final String etag;
+    private final @Nullable String link;
+    private final byte[] body;
+
+    /**
+     * Creates a new cached response.
+     *
+     * @param etag the {@code ETag} header value
+     * @param link the {@code Link} header value
+     * @param body the body
+     * @since 2.0.0
+     */
+    public EntryImpl(final @NonNull String etag, final @Nullable String link, final byte @NonNull [] body) {
+      this.etag = etag;
+      this.link = link;
+      this.body = body;
+    }
+
+    @Override
+    public @NonNull String etag() {
+      return this.etag;
+    }
+
+    @Override
+    public @Nullable String link() {
+      return this.link;
+    }
+
+    @Override
+    public byte @NonNull [] body() {
+      return this.body;
+    }
+  }
+}
@@ -29,13 +29,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class OrganizationImpl implements Organization {
   private final HTTP.RequestTemplate request;
+  private final String name;
 
   OrganizationImpl(final HTTP.RequestTemplate request, final String name) {
     this.request = request.path(name);
+    this.name = name;
   }
 
   @Override
   public @NonNull Teams teams() {
-    return new TeamsImpl(this.request);
+    return new TeamsImpl(this.request, this.name);
   }
 }
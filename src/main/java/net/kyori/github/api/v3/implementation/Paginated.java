@@ -30,13 +30,16 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reactivestreams.Publisher;
 
 final class Paginated<T> implements Iterable<T> {
+  private final HTTP.RequestTemplate request;
   private final Function<HTTP.RequestTemplate, HTTP.Response> requestFunction;
   private final Function<HTTP.Response, Stream<T>> responseFunction;
   private final Pager pager = new Pager();
 
   Paginated(final HTTP.RequestTemplate request, final Function<HTTP.RequestTemplate, HTTP.Response> requestFunction, final Function<HTTP.Response, Stream<T>> responseFunction) {
+    this.request = request;
     this.pager.next = request;
     this.requestFunction = requestFunction;
     this.responseFunction = responseFunction;
@@ -47,6 +50,15 @@ final class Paginated<T> implements Iterable<T> {
     return this.pager;
   }
 
+  /**
+   * Creates a publisher of the same listing, starting from the first page for each subscriber.
+   *
+   * @return the publisher
+   */
+  Publisher<T> publisher() {
+    return new PaginatedPublisher<>(this.request, this.requestFunction, this.responseFunction);
+  }
+
   class Pager implements Iterator<T> {
     private LinkedList<T> current;
     HTTP.RequestTemplate next;
@@ -0,0 +1,173 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes the items of a paginated listing.
+ *
+ * <p>A page is only requested once every item of the previous page has been emitted and more are demanded,
+ * so no thread waits between pages. Pages are requested on the session executor.</p>
+ */
+final class PaginatedPublisher<T> implements Publisher<T> {
+  private final HTTP.RequestTemplate request;
+  private final Function<HTTP.RequestTemplate, HTTP.Response> requestFunction;
+  private final Function<HTTP.Response, Stream<T>> responseFunction;
+  private final Executor executor;
+
+  PaginatedPublisher(final HTTP.RequestTemplate request, final Function<HTTP.RequestTemplate, HTTP.Response> requestFunction, final Function<HTTP.Response, Stream<T>> responseFunction) {
+    this.request = request;
+    this.requestFunction = requestFunction;
+    this.responseFunction = responseFunction;
+    this.executor = request.session.executor;
+  }
+
+  @Override
+  public void subscribe(final @NonNull Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    subscriber.onSubscribe(new Pages(subscriber));
+  }
+
+  final class Pages implements Subscription {
+    private final Subscriber<? super T> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    // Only one thread drains at a time; anyone arriving while it does leaves it another pass
+    private final AtomicInteger passes = new AtomicInteger();
+    private final Deque<T> page = new ArrayDeque<>();
+    private HTTP.@Nullable RequestTemplate next = PaginatedPublisher.this.request;
+    private boolean fetching;
+    private boolean done;
+    private volatile @Nullable List<T> fetched;
+    private volatile @Nullable Throwable error;
+    private volatile boolean cancelled;
+
+    Pages(final Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        this.error = new IllegalArgumentException("Requested " + n + " items, must request at least one");
+      } else {
+        this.demand.getAndUpdate(demand -> demand + n < 0 ? Long.MAX_VALUE : demand + n);
+      }
+      this.drain();
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      this.drain();
+    }
+
+    private void drain() {
+      if (this.passes.getAndIncrement() != 0) {
+        return;
+      }
+      int passes = 1;
+      do {
+        this.pass();
+        passes = this.passes.addAndGet(-passes);
+      } while (passes != 0);
+    }
+
+    private void pass() {
+      if (this.done) {
+        return;
+      }
+      if (this.cancelled) {
+        this.finish();
+        return;
+      }
+      final Throwable error = this.error;
+      if (error != null) {
+        this.finish();
+        this.subscriber.onError(error);
+        return;
+      }
+      final List<T> fetched = this.fetched;
+      if (fetched != null) {
+        this.fetched = null;
+        this.fetching = false;
+        this.page.addAll(fetched);
+      }
+      final long demand = this.demand.get();
+      long emitted = 0;
+      while (emitted != demand && !this.page.isEmpty() && !this.cancelled) {
+        this.subscriber.onNext(this.page.removeFirst());
+        emitted++;
+      }
+      if (emitted != 0 && demand != Long.MAX_VALUE) {
+        this.demand.addAndGet(-emitted);
+      }
+      if (this.cancelled) {
+        this.finish();
+      } else if (this.page.isEmpty() && !this.fetching) {
+        final HTTP.RequestTemplate next = this.next;
+        if (next == null) {
+          this.finish();
+          this.subscriber.onComplete();
+        } else if (this.demand.get() > 0) {
+          this.fetching = true;
+          PaginatedPublisher.this.executor.execute(() -> this.fetch(next));
+        }
+      }
+    }
+
+    private void fetch(final HTTP.RequestTemplate request) {
+      try {
+        final HTTP.Response response = PaginatedPublisher.this.requestFunction.apply(request);
+        final List<T> items = PaginatedPublisher.this.responseFunction.apply(response).collect(Collectors.toList());
+        // Published to the draining thread by the write to fetched
+        this.next = response.link().next().orElse(null);
+        this.fetched = items;
+      } catch (final Throwable t) {
+        this.error = t;
+      }
+      this.drain();
+    }
+
+    private void finish() {
+      this.done = true;
+      this.next = null;
+      this.page.clear();
+    }
+  }
+}
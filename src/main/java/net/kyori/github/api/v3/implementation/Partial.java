@@ -25,15 +25,60 @@ package net.kyori.github.api.v3.implementation;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.time.Instant;
-import net.kyori.github.api.v3.Collaborator;
+import java.util.List;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 interface Partial {
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
   @JsonIgnoreProperties(ignoreUnknown = true)
-  class Id {
-    int id;
+  class CheckRun {
+    long id;
+    String name;
+    String head_sha;
+    net.kyori.github.api.v3.CheckRun.Status status;
+    net.kyori.github.api.v3.CheckRun.Conclusion conclusion;
+    String html_url;
+  }
+
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class Collaborator {
+    @JsonDeserialize(using = Interning.Strings.class)
+    String login;
+    Permissions permissions;
+
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static final class Permissions {
+      boolean admin;
+      boolean maintain;
+      boolean push;
+      boolean triage;
+      boolean pull;
+    }
+  }
+
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class Comment {
+    long id;
+    User user;
+    String body;
+    String html_url;
+    String issue_url;
+    Instant created_at;
+    Instant updated_at;
+  }
+
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class Code {
+    String path;
+    String sha;
+    String html_url;
+    Repository repository;
   }
 
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
@@ -46,21 +91,39 @@ interface Partial {
     @Nullable Object pull_request;
     net.kyori.github.api.v3.Issue.State state;
     String title;
+    List<Label> labels;
+    List<User> assignees;
+    @Nullable Milestone milestone;
+    Instant updated_at;
+    @JsonDeserialize(using = Interning.Strings.class)
+    String repository_url;
   }
 
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
   @JsonIgnoreProperties(ignoreUnknown = true)
   class Label {
+    @JsonDeserialize(using = Interning.Strings.class)
     String url;
+    @JsonDeserialize(using = Interning.Strings.class)
     String name;
+    @JsonDeserialize(using = Interning.Strings.class)
     String description;
+    @JsonDeserialize(using = Interning.Strings.class)
     String color;
   }
 
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class Milestone {
+    int number;
+    @JsonDeserialize(using = Interning.Strings.class)
+    String title;
+  }
+
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
   @JsonIgnoreProperties(ignoreUnknown = true)
   class Permission {
-    Collaborator.Permission permission;
+    net.kyori.github.api.v3.Collaborator.Permission permission;
   }
 
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
@@ -83,20 +146,45 @@ interface Partial {
     String commit_id;
   }
 
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class Repository {
+    @JsonDeserialize(using = Interning.Strings.class)
+    String name;
+    User owner;
+  }
+
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  class SearchResults<T> {
+    int total_count;
+    List<T> items;
+
+    static final class Issues extends SearchResults<Issue> {
+    }
+
+    static final class Code extends SearchResults<Partial.Code> {
+    }
+  }
+
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
   @JsonIgnoreProperties(ignoreUnknown = true)
   class Status {
     net.kyori.github.api.v3.Status.State state;
     String target_url;
     String description;
+    @JsonDeserialize(using = Interning.Strings.class)
     String context;
   }
 
   @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
   @JsonIgnoreProperties(ignoreUnknown = true)
   class User {
+    @JsonDeserialize(using = Interning.Strings.class)
     String login;
+    @JsonDeserialize(using = Interning.Strings.class)
     String name;
+    @JsonDeserialize(using = Interning.Strings.class)
     String avatar_url;
   }
 
@@ -51,7 +51,7 @@ final class PullRequestImpl implements PullRequest {
 
   @Override
   public @NonNull User user() {
-    return new UserImpl(this.lazy.get().user.login, this.lazy.get().user.name, this.lazy.get().user.avatar_url);
+    return this.request.session.interning.user(this.lazy.get().user);
   }
 
   @Override
@@ -45,7 +45,7 @@ final class PullRequestReviewsImpl implements PullRequestReviews {
     final List<Partial.PullRequestReview> partials = this.request.get().as(GET_TYPE);
     final List<PullRequestReview> reviews = new ArrayList<>(partials.size());
     for (final Partial.PullRequestReview partial : partials) {
-      reviews.add(new PullRequestReviewImpl(new UserImpl(partial.user.login, partial.user.name, partial.user.avatar_url), partial.state, partial.body));
+      reviews.add(new PullRequestReviewImpl(this.request.session.interning.user(partial.user), partial.state, partial.body));
     }
     return reviews;
   }
@@ -53,6 +53,6 @@ final class PullRequestReviewsImpl implements PullRequestReviews {
   @Override
   public @NonNull PullRequestReview create(final PullRequestReview.@NonNull Create create) throws IOException {
     final Partial.PullRequestReview partial = this.request.post(create).as(Partial.PullRequestReview.class);
-    return new PullRequestReviewImpl(new UserImpl(partial.user.login, partial.user.name, partial.user.avatar_url), partial.state, partial.body);
+    return new PullRequestReviewImpl(this.request.session.interning.user(partial.user), partial.state, partial.body);
   }
 }
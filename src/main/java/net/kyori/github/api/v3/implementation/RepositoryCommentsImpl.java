@@ -23,55 +23,32 @@
  */
 package net.kyori.github.api.v3.implementation;
 
-import java.util.Optional;
-import net.kyori.github.api.v3.Issue;
-import net.kyori.github.api.v3.PullRequest;
-import net.kyori.github.api.v3.User;
+import java.io.IOException;
+import java.time.Instant;
+import net.kyori.github.api.v3.Comment;
+import net.kyori.github.api.v3.RepositoryComments;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-final class CreatedIssue extends AbstractIssue {
-  private final String html_url;
-  private final User user;
-  private final String title;
-  private final String body;
-  private final Issue.State state;
+final class RepositoryCommentsImpl implements RepositoryComments {
+  private final HTTP.RequestTemplate request;
 
-  CreatedIssue(final HTTP.RequestTemplate request, final Partial.Issue partial) {
-    super(request, partial.number);
-    this.html_url = partial.html_url;
-    this.user = new UserImpl(partial.user.login, partial.user.name, partial.user.avatar_url);
-    this.title = partial.title;
-    this.body = partial.body;
-    this.state = partial.state;
+  RepositoryCommentsImpl(final HTTP.RequestTemplate request) {
+    this.request = request.path("issues", "comments");
   }
 
   @Override
-  public @NonNull String html_url() {
-    return this.html_url;
+  @SuppressWarnings("RedundantThrows")
+  public @NonNull Iterable<Comment> all() throws IOException {
+    return CommentImpl.all(this.updated(), this.request);
   }
 
   @Override
-  public @NonNull User user() {
-    return this.user;
+  @SuppressWarnings("RedundantThrows")
+  public @NonNull Iterable<Comment> all(final @NonNull Instant since) throws IOException {
+    return CommentImpl.all(this.updated().query("since", since.toString()), this.request);
   }
 
-  @Override
-  public @NonNull String title() {
-    return this.title;
-  }
-
-  @Override
-  public @NonNull String body() {
-    return this.body;
-  }
-
-  @Override
-  public @NonNull State state() {
-    return this.state;
-  }
-
-  @Override
-  public @NonNull Optional<PullRequest> pullRequest() {
-    return Optional.empty();
+  private HTTP.RequestTemplate updated() {
+    return this.request.query("sort", "updated").query("direction", "asc");
   }
 }
@@ -24,11 +24,14 @@
 package net.kyori.github.api.v3.implementation;
 
 import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.Checks;
 import net.kyori.github.api.v3.Collaborators;
 import net.kyori.github.api.v3.Issues;
 import net.kyori.github.api.v3.PullRequests;
 import net.kyori.github.api.v3.Repository;
+import net.kyori.github.api.v3.RepositoryComments;
 import net.kyori.github.api.v3.RepositoryLabels;
+import net.kyori.github.api.v3.RepositoryMirror;
 import net.kyori.github.api.v3.Statuses;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -39,11 +42,21 @@ final class RepositoryImpl implements Repository {
     this.request = request.path(id.user(), id.repo());
   }
 
+  @Override
+  public @NonNull Checks checks() {
+    return new ChecksImpl(this.request);
+  }
+
   @Override
   public @NonNull Collaborators collaborators() {
     return new CollaboratorsImpl(this.request);
   }
 
+  @Override
+  public @NonNull RepositoryComments comments() {
+    return new RepositoryCommentsImpl(this.request);
+  }
+
   @Override
   public @NonNull Issues issues() {
     return new IssuesImpl(this, this.request);
@@ -63,4 +76,9 @@ final class RepositoryImpl implements Repository {
   public @NonNull Statuses statuses() {
     return new StatusesImpl(this.request);
   }
+
+  @Override
+  public @NonNull RepositoryMirror mirror() {
+    return new RepositoryMirrorImpl(this.request);
+  }
 }
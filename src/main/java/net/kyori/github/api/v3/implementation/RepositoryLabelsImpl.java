@@ -28,6 +28,7 @@ import java.util.Arrays;
 import net.kyori.github.api.v3.Label;
 import net.kyori.github.api.v3.RepositoryLabels;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.reactivestreams.Publisher;
 
 final class RepositoryLabelsImpl implements RepositoryLabels {
   private final HTTP.RequestTemplate request;
@@ -39,16 +40,25 @@ final class RepositoryLabelsImpl implements RepositoryLabels {
   @Override
   @SuppressWarnings("RedundantThrows")
   public @NonNull Iterable<Label> all() throws IOException {
+    return this.pages();
+  }
+
+  @Override
+  public @NonNull Publisher<Label> publisher() {
+    return this.pages().publisher();
+  }
+
+  private Paginated<Label> pages() {
     return new Paginated<>(
       this.request,
       Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
-      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Label[].class)).map(label -> new LabelImpl(this.request, label.url, label.name, label.description, label.color)))
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.Label[].class)).map(label -> this.request.session.interning.label(this.request, label)))
     );
   }
 
   @Override
   public <C extends Label.Create> @NonNull Label create(final @NonNull C create) throws IOException {
     final Partial.Label label = this.request.post(create).as(Partial.Label.class);
-    return new LabelImpl(this.request, label.url, label.name, label.description, label.color);
+    return this.request.session.interning.label(this.request, label);
   }
 }
@@ -0,0 +1,355 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import net.kyori.github.api.v3.Issue;
+import net.kyori.github.api.v3.Label;
+import net.kyori.github.api.v3.RepositoryMirror;
+import net.kyori.github.api.webhook.event.IssuesEvent;
+import net.kyori.github.api.webhook.event.PullRequestEvent;
+import net.kyori.github.api.webhook.model.PullRequest;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class RepositoryMirrorImpl implements RepositoryMirror {
+  private static final int PAGE_SIZE = 100;
+  // Allows for our clock and GitHub's disagreeing, and for updates that show up in listings late
+  private static final Duration OVERLAP = Duration.ofMinutes(1);
+  private static final int MAX_PASSES = 3;
+  private final HTTP.RequestTemplate issuesRequest;
+  private final HTTP.RequestTemplate labelsRequest;
+  // Only one sync runs at a time, but events may be accepted while a sync is fetching
+  private final Lock syncLock = new ReentrantLock();
+  private final Object lock = new Object();
+  private final Map<Integer, EntryImpl> issues = new HashMap<>();
+  // When issues were deleted, so a sync that fetched them before the deletion doesn't bring them back
+  private final Map<Integer, Instant> deleted = new HashMap<>();
+  private Map<String, Label> labels = ImmutableMap.of();
+  private @Nullable Instant since;
+  private @Nullable Instant syncedAt;
+  private volatile @Nullable SnapshotImpl snapshot;
+
+  RepositoryMirrorImpl(final HTTP.RequestTemplate request) {
+    this.issuesRequest = request.path("issues");
+    this.labelsRequest = request.path("labels");
+  }
+
+  @Override
+  public void sync() throws IOException {
+    this.syncLock.lock();
+    try {
+      final Instant started = Instant.now();
+      final Instant since;
+      synchronized (this.lock) {
+        since = this.since;
+      }
+      // Oldest first, so each page only ever moves the newest update seen forward
+      HTTP.RequestTemplate request = this.issuesRequest
+        .query("state", "all")
+        .query("sort", "updated")
+        .query("direction", "asc")
+        .query("per_page", PAGE_SIZE);
+      if (since != null) {
+        request = request.query("since", since.toString());
+      }
+      final List<EntryImpl> changed = new ArrayList<>();
+      Instant newest = null;
+      boolean settled = false;
+      for (int pass = 0; pass < MAX_PASSES && !settled; pass++) {
+        // An issue updated mid-listing moves to the end, shifting the pages after it back by one - anything
+        // that shifts onto a page we've already read is skipped, so list again until nothing moves. Each pass
+        // is kept, so an issue is only missed if every pass skipped it
+        final Instant moved = Instant.now().minus(OVERLAP);
+        settled = true;
+        for (final Partial.Issue issue : this.all(request, Partial.Issue[].class)) {
+          final EntryImpl entry = EntryImpl.of(issue);
+          changed.add(entry);
+          if (newest == null || entry.updatedAt.isAfter(newest)) {
+            newest = entry.updatedAt;
+          }
+          if (!entry.updatedAt.isBefore(moved)) {
+            settled = false;
+          }
+        }
+      }
+      final Map<String, Label> labels = new HashMap<>();
+      for (final Partial.Label label : this.all(this.labelsRequest.query("per_page", PAGE_SIZE), Partial.Label[].class)) {
+        labels.put(label.name, this.labelsRequest.session.interning.label(this.labelsRequest, label));
+      }
+
+      synchronized (this.lock) {
+        for (final EntryImpl entry : changed) {
+          final Instant deletedAt = this.deleted.get(entry.number);
+          if (deletedAt == null || entry.updatedAt.isAfter(deletedAt)) {
+            this.merge(entry);
+          }
+        }
+        if (newest != null) {
+          final Instant next = newest.minus(OVERLAP);
+          if (this.since == null || next.isAfter(this.since)) {
+            this.since = next;
+          }
+        }
+        if (this.since != null) {
+          // Nothing updated before the next sync's since will be listed again, so it can't be brought back
+          final Instant cutoff = this.since;
+          this.deleted.values().removeIf(deletedAt -> deletedAt.isBefore(cutoff));
+        }
+        this.labels = ImmutableMap.copyOf(labels);
+        this.syncedAt = started;
+        this.snapshot = null;
+      }
+    } finally {
+      this.syncLock.unlock();
+    }
+  }
+
+  private <T> Iterable<T> all(final HTTP.RequestTemplate request, final Class<T[]> type) {
+    return new Paginated<>(
+      request,
+      Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(type)))
+    );
+  }
+
+  @Override
+  public void accept(final @NonNull IssuesEvent event) {
+    synchronized (this.lock) {
+      if (event.action == IssuesEvent.Action.DELETED || event.action == IssuesEvent.Action.TRANSFERRED) {
+        this.issues.remove(event.issue.number);
+        this.deleted.put(event.issue.number, parseUpdatedAt(event.issue.updated_at));
+      } else {
+        this.merge(EntryImpl.of(event.issue));
+      }
+      this.snapshot = null;
+    }
+  }
+
+  @Override
+  public void accept(final @NonNull PullRequestEvent event) {
+    synchronized (this.lock) {
+      this.merge(EntryImpl.of(event.pull_request));
+      this.snapshot = null;
+    }
+  }
+
+  // Last writer wins, by when GitHub says the entry was updated
+  private void merge(final EntryImpl entry) {
+    this.issues.merge(entry.number, entry, (existing, incoming) -> incoming.updatedAt.isBefore(existing.updatedAt) ? existing : incoming);
+  }
+
+  @Override
+  public @NonNull Snapshot snapshot() {
+    SnapshotImpl snapshot = this.snapshot;
+    if (snapshot == null) {
+      synchronized (this.lock) {
+        snapshot = this.snapshot;
+        if (snapshot == null) {
+          snapshot = new SnapshotImpl(this.syncedAt, ImmutableSortedMap.copyOf(this.issues), this.labels);
+          this.snapshot = snapshot;
+        }
+      }
+    }
+    return snapshot;
+  }
+
+  static Instant parseUpdatedAt(final @Nullable String updatedAt) {
+    return updatedAt != null ? Instant.parse(updatedAt) : Instant.now();
+  }
+
+  private static <T> Set<String> names(final @Nullable List<T> values, final Function<T, String> name) {
+    if (values == null) {
+      return ImmutableSet.of();
+    }
+    final ImmutableSet.Builder<String> names = ImmutableSet.builder();
+    for (final T value : values) {
+      names.add(name.apply(value));
+    }
+    return names.build();
+  }
+
+  static final class SnapshotImpl implements Snapshot {
+    private final @Nullable Instant syncedAt;
+    private final Map<Integer, Entry> issues;
+    private final Map<String, Label> labels;
+
+    SnapshotImpl(final @Nullable Instant syncedAt, final Map<Integer, Entry> issues, final Map<String, Label> labels) {
+      this.syncedAt = syncedAt;
+      this.issues = issues;
+      this.labels = labels;
+    }
+
+    @Override
+    public @NonNull Optional<Instant> syncedAt() {
+      return Optional.ofNullable(this.syncedAt);
+    }
+
+    @Override
+    public @NonNull Map<Integer, Entry> issues() {
+      return this.issues;
+    }
+
+    @Override
+    public @NonNull Map<String, Label> labels() {
+      return this.labels;
+    }
+  }
+
+  static final class EntryImpl implements Entry {
+    final int number;
+    final String title;
+    final String body;
+    final Issue.State state;
+    final String user;
+    final Set<String> labels;
+    final Set<String> assignees;
+    final @Nullable String milestone;
+    final boolean pullRequest;
+    final Instant updatedAt;
+
+    EntryImpl(final int number, final String title, final @Nullable String body, final Issue.State state, final String user, final Set<String> labels, final Set<String> assignees, final @Nullable String milestone, final boolean pullRequest, final Instant updatedAt) {
+      this.number = number;
+      this.title = title;
+      this.body = body != null ? body : "";
+      this.state = state;
+      this.user = user;
+      this.labels = labels;
+      this.assignees = assignees;
+      this.milestone = milestone;
+      this.pullRequest = pullRequest;
+      this.updatedAt = updatedAt;
+    }
+
+    static EntryImpl of(final Partial.Issue issue) {
+      return new EntryImpl(
+        issue.number,
+        issue.title,
+        issue.body,
+        issue.state,
+        issue.user.login,
+        names(issue.labels, label -> label.name),
+        names(issue.assignees, user -> user.login),
+        issue.milestone != null ? issue.milestone.title : null,
+        issue.pull_request != null,
+        issue.updated_at
+      );
+    }
+
+    static EntryImpl of(final net.kyori.github.api.webhook.model.Issue issue) {
+      return new EntryImpl(
+        issue.number,
+        issue.title,
+        issue.body,
+        issue.state == net.kyori.github.api.webhook.model.Issue.State.CLOSED ? Issue.State.CLOSED : Issue.State.OPEN,
+        issue.user.login,
+        names(issue.labels, label -> label.name),
+        names(issue.assignees, user -> user.login),
+        issue.milestone != null ? issue.milestone.title : null,
+        issue.pull_request != null,
+        parseUpdatedAt(issue.updated_at)
+      );
+    }
+
+    static EntryImpl of(final PullRequest pullRequest) {
+      return new EntryImpl(
+        pullRequest.number,
+        pullRequest.title,
+        pullRequest.body,
+        pullRequest.state == PullRequest.State.CLOSED ? Issue.State.CLOSED : Issue.State.OPEN,
+        pullRequest.user.login,
+        names(pullRequest.labels, label -> label.name),
+        names(pullRequest.assignees, user -> user.login),
+        pullRequest.milestone != null ? pullRequest.milestone.title : null,
+        true,
+        parseUpdatedAt(pullRequest.updated_at)
+      );
+    }
+
+    @Override
+    public int number() {
+      return this.number;
+    }
+
+    @Override
+    public @NonNull String title() {
+      return this.title;
+    }
+
+    @Override
+    public @NonNull String body() {
+      return this.body;
+    }
+
+    @Override
+    public Issue.@NonNull State state() {
+      return this.state;
+    }
+
+    @Override
+    public @NonNull String user() {
+      return this.user;
+    }
+
+    @Override
+    public @NonNull Set<String> labels() {
+      return this.labels;
+    }
+
+    @Override
+    public @NonNull Set<String> assignees() {
+      return this.assignees;
+    }
+
+    @Override
+    public @NonNull Optional<String> milestone() {
+      return Optional.ofNullable(this.milestone);
+    }
+
+    @Override
+    public boolean pullRequest() {
+      return this.pullRequest;
+    }
+
+    @Override
+    public @NonNull Instant updatedAt() {
+      return this.updatedAt;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.Issue;
+import net.kyori.github.api.v3.PullRequest;
+import net.kyori.github.api.v3.Search;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+final class SearchImpl implements Search {
+  private static final int PAGE_SIZE = 100;
+  private static final int MAX_RESULTS = 1000;
+  // How many split searches run at once - the search rate limit is the real bottleneck
+  private static final int PARALLELISM = 4;
+  // Nothing on GitHub was created before GitHub was
+  private static final Instant EPOCH = Instant.parse("2008-01-01T00:00:00Z");
+  private static final String CREATED = "created:";
+  private final HTTP.RequestTemplate repos;
+  private final HTTP.RequestTemplate search;
+
+  SearchImpl(final HTTP.RequestTemplate request) {
+    this.repos = request.path("repos");
+    this.search = request.path("search");
+  }
+
+  @Override
+  public @NonNull Stream<Issue> issues(final @NonNull String query) throws IOException {
+    return this.search("issues", query, Partial.SearchResults.Issues.class, this::issue, true);
+  }
+
+  @Override
+  public @NonNull Stream<PullRequest> pullRequests(final @NonNull String query) throws IOException {
+    return this.search("issues", query + " is:pr", Partial.SearchResults.Issues.class, this::pullRequest, true);
+  }
+
+  @Override
+  public @NonNull Stream<Code> code(final @NonNull String query) throws IOException {
+    return this.search("code", query, Partial.SearchResults.Code.class, CodeImpl::new, false);
+  }
+
+  private Issue issue(final Partial.Issue issue) {
+    final RepositoryIdentifier id = repository(issue.repository_url);
+    return new IssueImpl(new RepositoryImpl(this.repos, id), this.repos.path(id.user(), id.repo(), "issues"), issue);
+  }
+
+  private PullRequest pullRequest(final Partial.Issue issue) {
+    final RepositoryIdentifier id = repository(issue.repository_url);
+    return new PullRequestImpl(this.repos.path(id.user(), id.repo(), "pulls"), issue.number);
+  }
+
+  // https://api.github.com/repos/{owner}/{repo}
+  private static RepositoryIdentifier repository(final String url) {
+    final String[] parts = url.split("/");
+    return RepositoryIdentifier.of(parts[parts.length - 2], parts[parts.length - 1]);
+  }
+
+  private <P, T> Stream<T> search(final String kind, final String query, final Class<? extends Partial.SearchResults<P>> type, final Function<P, T> hydrate, final boolean split) throws IOException {
+    final HTTP.RequestTemplate request = this.search.path(kind);
+    final List<String> queries = split ? this.split(request, query, type) : Collections.singletonList(query);
+    final Iterator<P> results;
+    if (queries.size() == 1) {
+      results = this.results(request, queries.get(0), type).iterator();
+    } else {
+      results = new Parallel<>(request, queries, type);
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false).map(hydrate);
+  }
+
+  private <P> Paginated<P> results(final HTTP.RequestTemplate request, final String query, final Class<? extends Partial.SearchResults<P>> type) {
+    return new Paginated<>(
+      request.query("q", query).query("per_page", PAGE_SIZE),
+      Hacks.ThrowingFunction.of(SearchImpl::get),
+      Hacks.ThrowingFunction.of(response -> response.as(type).items.stream())
+    );
+  }
+
+  private static HTTP.Response get(final HTTP.RequestTemplate request) throws IOException {
+    request.session.searchLimiter.acquire();
+    return request.get();
+  }
+
+  private static int count(final HTTP.RequestTemplate request, final String query, final Class<? extends Partial.SearchResults<?>> type) throws IOException {
+    return get(request.query("q", query).query("per_page", 1)).as(type).total_count;
+  }
+
+  // Splits a query into queries over ranges of creation dates that each match few enough results to be listed in full
+  private List<String> split(final HTTP.RequestTemplate request, final String query, final Class<? extends Partial.SearchResults<?>> type) throws IOException {
+    if (query.contains(CREATED) || count(request, query, type) <= MAX_RESULTS) {
+      return Collections.singletonList(query);
+    }
+    return join(this.divide(request, query, type, EPOCH, Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+  }
+
+  private CompletableFuture<List<String>> split(final HTTP.RequestTemplate request, final String query, final Class<? extends Partial.SearchResults<?>> type, final Instant from, final Instant to) {
+    final String ranged = query + ' ' + CREATED + from + ".." + to;
+    return CompletableFuture.supplyAsync(Hacks.ThrowingSupplier.of(() -> count(request, ranged, type)), request.session.executor).thenCompose(count -> {
+      if (count == 0) {
+        return CompletableFuture.completedFuture(Collections.emptyList());
+      } else if (count <= MAX_RESULTS || !from.isBefore(to)) {
+        return CompletableFuture.completedFuture(Collections.singletonList(ranged));
+      }
+      return this.divide(request, query, type, from, to);
+    });
+  }
+
+  private CompletableFuture<List<String>> divide(final HTTP.RequestTemplate request, final String query, final Class<? extends Partial.SearchResults<?>> type, final Instant from, final Instant to) {
+    // Ranges are inclusive at both ends
+    final Instant middle = from.plusSeconds(Duration.between(from, to).getSeconds() / 2);
+    return this.split(request, query, type, from, middle).thenCombine(
+      this.split(request, query, type, middle.plusSeconds(1), to),
+      (before, after) -> ImmutableList.<String>builder().addAll(before).addAll(after).build()
+    );
+  }
+
+  private static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      throw Hacks.yeet(e.getCause());
+    }
+  }
+
+  /**
+   * Lists the results of many queries in order, fetching a few queries ahead in parallel.
+   */
+  private final class Parallel<P> implements Iterator<P> {
+    private final HTTP.RequestTemplate request;
+    private final Iterator<String> queries;
+    private final Class<? extends Partial.SearchResults<P>> type;
+    private final Deque<CompletableFuture<List<P>>> ahead = new ArrayDeque<>();
+    private Iterator<P> current = Collections.emptyIterator();
+
+    Parallel(final HTTP.RequestTemplate request, final List<String> queries, final Class<? extends Partial.SearchResults<P>> type) {
+      this.request = request;
+      this.queries = queries.iterator();
+      this.type = type;
+      this.fill();
+    }
+
+    private void fill() {
+      while (this.ahead.size() < PARALLELISM && this.queries.hasNext()) {
+        final String query = this.queries.next();
+        this.ahead.add(CompletableFuture.supplyAsync(() -> Lists.newArrayList(SearchImpl.this.results(this.request, query, this.type)), this.request.session.executor));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!this.current.hasNext() && !this.ahead.isEmpty()) {
+        this.current = join(this.ahead.poll()).iterator();
+        this.fill();
+      }
+      return this.current.hasNext();
+    }
+
+    @Override
+    public P next() {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return this.current.next();
+    }
+  }
+
+  static final class CodeImpl implements Code {
+    private final RepositoryIdentifier repository;
+    private final String path;
+    private final String sha;
+    private final String html_url;
+
+    CodeImpl(final Partial.Code code) {
+      this.repository = RepositoryIdentifier.of(code.repository.owner.login, code.repository.name);
+      this.path = code.path;
+      this.sha = code.sha;
+      this.html_url = code.html_url;
+    }
+
+    @Override
+    public @NonNull RepositoryIdentifier repository() {
+      return this.repository;
+    }
+
+    @Override
+    public @NonNull String path() {
+      return this.path;
+    }
+
+    @Override
+    public @NonNull String sha() {
+      return this.sha;
+    }
+
+    @Override
+    public @NonNull String html_url() {
+      return this.html_url;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.RateLimiter;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import net.kyori.github.api.v3.ResponseCache;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * State shared by every request made through one {@link GitHubImpl}.
+ */
+final class Session {
+  final ObjectMapper json;
+  // Writes request bodies - the transport closes the stream it hands out, so leave that to it
+  final ObjectWriter writer;
+  // Resolving the type and looking up its deserializer is only done once per type
+  private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+  final HttpRequestFactory requests;
+  final @Nullable ResponseCache cache;
+  // Runs work that fans out into parallel requests
+  final Executor executor;
+  // Search has its own, much lower, rate limit of 30 requests per minute
+  final RateLimiter searchLimiter = RateLimiter.create(30 / 60d);
+  final Interning interning;
+  final StickyComments stickyComments = new StickyComments();
+  // User profiles rarely change, and are only needed for display
+  final Cache<String, Partial.User> users = CacheBuilder.newBuilder()
+    .maximumSize(10_000)
+    .expireAfterWrite(1, TimeUnit.HOURS)
+    .build();
+  final CollaboratorPermissions collaboratorPermissions = new CollaboratorPermissions();
+  final TeamMemberships teamMemberships = new TeamMemberships();
+  final Lanes lanes;
+
+  Session(final ObjectMapper json, final HttpRequestFactory requests, final @Nullable ResponseCache cache, final Executor executor, final Interning interning, final Lanes lanes) {
+    this.json = json;
+    this.writer = json.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    this.requests = requests;
+    this.cache = cache;
+    this.executor = executor;
+    this.interning = interning;
+    this.lanes = lanes;
+  }
+
+  ObjectReader reader(final Type type) {
+    final ObjectReader reader = this.readers.get(type);
+    if (reader != null) {
+      return reader;
+    }
+    return this.readers.computeIfAbsent(type, key -> this.json.readerFor(this.json.getTypeFactory().constructType(key)));
+  }
+}
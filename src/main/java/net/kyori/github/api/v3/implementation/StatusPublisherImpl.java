@@ -0,0 +1,204 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.api.client.http.HttpResponseException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.v3.Status;
+import net.kyori.github.api.v3.StatusPublisher;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class StatusPublisherImpl implements StatusPublisher {
+  private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<Map<String, Object>>() {};
+  // The context GitHub uses when a status doesn't specify one
+  private static final String DEFAULT_CONTEXT = "default";
+  private static final int MAX_PUBLISHED = 10_000;
+  private static final int TOO_MANY_REQUESTS = 429;
+  private final HTTP.RequestTemplate repos;
+  private final long windowMillis;
+  private final ScheduledExecutorService scheduler;
+  private final ConcurrentMap<Key, Map<String, Object>> pending = new ConcurrentHashMap<>();
+  private final Cache<Key, Map<String, Object>> published = CacheBuilder.newBuilder()
+    .maximumSize(MAX_PUBLISHED)
+    .build();
+  private volatile boolean closed;
+
+  StatusPublisherImpl(final HTTP.RequestTemplate request, final Duration window, final ScheduledExecutorService scheduler) {
+    this.repos = request.path("repos");
+    this.windowMillis = window.toMillis();
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public <C extends Status.AbstractCreate> void publish(final @NonNull RepositoryIdentifier repository, final @NonNull String sha, final @NonNull C status) {
+    if (this.closed) {
+      throw new IllegalStateException("Status publisher is closed");
+    }
+    final Map<String, Object> fields = this.repos.session.json.convertValue(status, FIELDS);
+    final Key key = new Key(repository, sha, Objects.toString(fields.get("context"), DEFAULT_CONTEXT));
+    // Only the first update in a window schedules a publish - later ones just replace what gets published
+    if (this.pending.put(key, fields) == null) {
+      this.schedule(key);
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    // One failing status shouldn't keep the rest from being published
+    Exception failure = null;
+    for (final Key key : new ArrayList<>(this.pending.keySet())) {
+      try {
+        this.publish(key);
+      } catch (final IOException | RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure != null) {
+      throw (RuntimeException) failure;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.closed = true;
+    this.flush();
+  }
+
+  private void schedule(final Key key) {
+    this.scheduler.schedule(() -> this.publishQuietly(key), this.windowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void publishQuietly(final Key key) {
+    try {
+      this.publish(key);
+    } catch (final IOException | RuntimeException ignored) {
+      // Anything worth trying again has been put back, with a retry scheduled
+    }
+  }
+
+  private void publish(final Key key) throws IOException {
+    final Map<String, Object> fields = this.pending.remove(key);
+    if (fields == null || fields.equals(this.published.getIfPresent(key))) {
+      return;
+    }
+    try {
+      this.repos.path(key.user, key.repo, "statuses", key.sha).post(fields).close();
+    } catch (final IOException | RuntimeException e) {
+      // Put it back and try again later, unless something newer came along in the meantime - that already has a
+      // publish scheduled. Client errors won't go away by retrying
+      if (!permanent(e) && this.pending.putIfAbsent(key, fields) == null && !this.closed) {
+        this.schedule(key);
+      }
+      throw e;
+    }
+    this.published.put(key, fields);
+  }
+
+  private static boolean permanent(final Exception e) {
+    if (!(e instanceof HttpResponseException)) {
+      return false;
+    }
+    final int status = ((HttpResponseException) e).getStatusCode();
+    return status >= 400 && status < 500 && status != TOO_MANY_REQUESTS;
+  }
+
+  static final class Key {
+    final String user;
+    final String repo;
+    final String sha;
+    final String context;
+
+    Key(final RepositoryIdentifier repository, final String sha, final String context) {
+      this.user = repository.user();
+      this.repo = repository.repo();
+      this.sha = sha;
+      this.context = context;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) return true;
+      if (!(other instanceof Key)) return false;
+      final Key that = (Key) other;
+      return this.user.equalsIgnoreCase(that.user) && this.repo.equalsIgnoreCase(that.repo) && this.sha.equals(that.sha) && this.context.equals(that.context);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.user.toLowerCase(Locale.ROOT), this.repo.toLowerCase(Locale.ROOT), this.sha, this.context);
+    }
+  }
+
+  private static final class SharedScheduler {
+    static final ScheduledExecutorService INSTANCE = Threads.scheduler(1, "igloo-status-publisher");
+  }
+
+  static final class BuilderImpl implements Builder {
+    private final HTTP.RequestTemplate request;
+    private Duration window = Duration.ofSeconds(5);
+    private @Nullable ScheduledExecutorService scheduler;
+
+    BuilderImpl(final HTTP.RequestTemplate request) {
+      this.request = request;
+    }
+
+    @Override
+    public @NonNull Builder window(final @NonNull Duration window) {
+      this.window = window;
+      return this;
+    }
+
+    @Override
+    public @NonNull Builder scheduler(final @NonNull ScheduledExecutorService scheduler) {
+      this.scheduler = scheduler;
+      return this;
+    }
+
+    @Override
+    public @NonNull StatusPublisher build() {
+      final ScheduledExecutorService scheduler = this.scheduler != null ? this.scheduler : SharedScheduler.INSTANCE;
+      return new StatusPublisherImpl(this.request, this.window, scheduler);
+    }
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.github.api.RepositoryIdentifier;
+import net.kyori.github.api.webhook.event.IssueCommentEvent;
+import net.kyori.github.api.webhook.model.User;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers which comment holds each sticky comment, so it can be edited without listing comments.
+ *
+ * <p>Sticky comments are identified by a hidden marker at the end of their body. Only our own comments
+ * count, so nobody else can take over a sticky comment by copying its marker.</p>
+ */
+final class StickyComments {
+  private static final String MARKER_START = "<!-- igloo-sticky:";
+  private static final String MARKER_END = " -->";
+  private static final int MAX_ISSUES = 10_000;
+  // Logins can't contain brackets, so only bot accounts have logins ending in this
+  private static final String BOT_SUFFIX = "[bot]";
+  private final Cache<String, Issue> issues = CacheBuilder.newBuilder()
+    .maximumSize(MAX_ISSUES)
+    .build();
+  // The login we make requests as, once known
+  private volatile @Nullable String self;
+  // GitHub Apps can't look themselves up with an installation token
+  private volatile boolean app;
+
+  static String marker(final String key) {
+    return MARKER_START + key + MARKER_END;
+  }
+
+  static @Nullable String key(final @Nullable String body) {
+    if (body == null) {
+      return null;
+    }
+    final int start = body.lastIndexOf(MARKER_START);
+    if (start == -1) {
+      return null;
+    }
+    final int end = body.indexOf(MARKER_END, start + MARKER_START.length());
+    return end != -1 ? body.substring(start + MARKER_START.length(), end) : null;
+  }
+
+  // Repository names are case-insensitive
+  static String issue(final String owner, final String repo, final int number) {
+    return owner.toLowerCase(Locale.ROOT) + '/' + repo.toLowerCase(Locale.ROOT) + '#' + number;
+  }
+
+  Issue get(final String issue) {
+    try {
+      return this.issues.get(issue, Issue::new);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Finds out who we make requests as, if not yet known.
+   *
+   * @param root the request to the root of the API
+   * @throws IOException if an exception occurs while looking ourselves up
+   */
+  void identify(final HTTP.RequestTemplate root) throws IOException {
+    if (this.self != null || this.app) {
+      return;
+    }
+    try {
+      this.self = root.path("user").get().as(Partial.User.class).login;
+    } catch (final HttpResponseException e) {
+      if (e.getStatusCode() != HttpStatusCodes.STATUS_CODE_UNAUTHORIZED && e.getStatusCode() != HttpStatusCodes.STATUS_CODE_FORBIDDEN) {
+        throw e;
+      }
+      this.app = true;
+    }
+  }
+
+  /**
+   * Remembers who we make requests as, from a comment we posted.
+   *
+   * @param login the login of the comment's author
+   */
+  void posted(final String login) {
+    this.self = login;
+  }
+
+  boolean ours(final @Nullable String login) {
+    if (login == null) {
+      return false;
+    }
+    final String self = this.self;
+    if (self != null) {
+      return self.equalsIgnoreCase(login);
+    }
+    // Until an app has posted a comment, the best it can do is trust other bots - editing their comments fails anyway
+    return this.app && login.endsWith(BOT_SUFFIX);
+  }
+
+  void accept(final IssueCommentEvent event) {
+    final RepositoryIdentifier repository = event.repository;
+    final String name = issue(repository.user(), repository.repo(), event.issue.number);
+    final long id = event.comment.id;
+    String key = event.action != IssueCommentEvent.Action.DELETED ? key(event.comment.body) : null;
+    if (key != null) {
+      final User user = event.comment.user;
+      if (this.self == null && !this.app) {
+        // We can't tell yet if it's ours - have the next upsert scan the issue, which finds out
+        final Issue issue = this.issues.getIfPresent(name);
+        if (issue != null) {
+          issue.scanned = false;
+        }
+        key = null;
+      } else if (!this.ours(user != null ? user.login : null)) {
+        key = null;
+      }
+    }
+    final Issue issue = key != null ? this.get(name) : this.issues.getIfPresent(name);
+    if (issue != null) {
+      issue.ids.values().remove(id);
+      if (key != null) {
+        issue.ids.put(key, id);
+      }
+    }
+  }
+
+  static final class Issue {
+    final Map<String, Long> ids = new ConcurrentHashMap<>();
+    // Held while upserting, so concurrent upserts of the same key don't both post a comment
+    final Lock lock = new ReentrantLock();
+    volatile boolean scanned;
+  }
+}
@@ -23,30 +23,71 @@
  */
 package net.kyori.github.api.v3.implementation;
 
-import com.google.common.reflect.TypeToken;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.github.api.v3.Team;
 import net.kyori.github.api.v3.User;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class TeamImpl implements Team {
-  @SuppressWarnings("UnstableApiUsage")
-  private static final TypeToken<List<Partial.User>> MEMBERS_TYPE = new TypeToken<List<Partial.User>>() {};
+  static final int PAGE_SIZE = 100;
   private final HTTP.RequestTemplate request;
+  private final String name;
 
-  TeamImpl(final HTTP.RequestTemplate request, final String slug) {
+  TeamImpl(final HTTP.RequestTemplate request, final String organization, final String slug) {
     this.request = request.path(slug);
+    this.name = TeamMemberships.team(organization, slug);
   }
 
   @Override
   public @NonNull List<User> members() throws IOException {
-    final List<Partial.User> partials = this.request.path("members").get().as(MEMBERS_TYPE);
-    final List<User> members = new ArrayList<>(partials.size());
-    for (final Partial.User partial : partials) {
-      members.add(new UserImpl(partial.login, partial.name, partial.avatar_url));
+    final long startedAt = System.nanoTime();
+    final TeamMemberships.Team team = this.request.session.teamMemberships.get(this.name);
+    final int generation = team.generation;
+    final List<User> members = new ArrayList<>();
+    final Set<String> logins = ConcurrentHashMap.newKeySet();
+    for (final Partial.User partial : this.all()) {
+      members.add(this.request.session.interning.user(partial));
+      logins.add(TeamMemberships.login(partial.login));
     }
+    team.loaded(logins, startedAt, generation);
     return members;
   }
+
+  @Override
+  public boolean member(final @NonNull String login) throws IOException {
+    final TeamMemberships.Team team = this.request.session.teamMemberships.get(this.name);
+    if (!team.fresh()) {
+      team.lock.lock();
+      try {
+        if (!team.fresh()) {
+          final long startedAt = System.nanoTime();
+          final int generation = team.generation;
+          final Set<String> logins = ConcurrentHashMap.newKeySet();
+          for (final Partial.User partial : this.all()) {
+            logins.add(TeamMemberships.login(partial.login));
+          }
+          team.loaded(logins, startedAt, generation);
+          // A load that raced with a webhook event is still the best answer we have right now
+          return logins.contains(TeamMemberships.login(login));
+        }
+      } finally {
+        team.lock.unlock();
+      }
+    }
+    final Set<String> members = team.members;
+    return members != null ? members.contains(TeamMemberships.login(login)) : this.member(login);
+  }
+
+  private Iterable<Partial.User> all() {
+    return new Paginated<>(
+      this.request.path("members").query("per_page", PAGE_SIZE),
+      Hacks.ThrowingFunction.of(HTTP.RequestTemplate::get),
+      Hacks.ThrowingFunction.of(response -> Arrays.stream(response.as(Partial.User[].class)))
+    );
+  }
 }
@@ -0,0 +1,134 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.github.api.webhook.event.MembershipEvent;
+import net.kyori.github.api.webhook.event.TeamEvent;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers the members of teams, so membership can be checked without a request.
+ *
+ * <p>Members are kept up to date by webhook events, and reloaded once they are ten minutes old.
+ * Reloads are conditional requests when a response cache is configured.</p>
+ */
+final class TeamMemberships {
+  static final long MAX_AGE_NANOS = Duration.ofMinutes(10).toNanos();
+  private static final int MAX_TEAMS = 10_000;
+  private final Cache<String, Team> teams = CacheBuilder.newBuilder()
+    .maximumSize(MAX_TEAMS)
+    .build();
+
+  // Organization logins and team slugs are case-insensitive
+  static String team(final String organization, final String slug) {
+    return organization.toLowerCase(Locale.ROOT) + '/' + slug.toLowerCase(Locale.ROOT);
+  }
+
+  static String login(final String login) {
+    return login.toLowerCase(Locale.ROOT);
+  }
+
+  Team get(final String team) {
+    try {
+      return this.teams.get(team, Team::new);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  void accept(final MembershipEvent event) {
+    if (event.team == null || event.member == null) {
+      return;
+    }
+    final String organization = event.organization.login;
+    final Team team = this.teams.getIfPresent(team(organization, event.team.slug));
+    if (event.action == MembershipEvent.Action.ADDED && team != null) {
+      team.add(login(event.member.login));
+    } else if (team != null) {
+      // The member may still belong to the team through one of its child teams
+      team.invalidate();
+    }
+    if (event.team.parent != null) {
+      // Members of child teams are members of their parents too, and we only know the immediate parent
+      this.invalidate(organization);
+    }
+  }
+
+  void accept(final TeamEvent event) {
+    if (event.action == TeamEvent.Action.EDITED || event.action == TeamEvent.Action.DELETED) {
+      // Renames change the slug, and moving a team changes who its parents contain
+      this.invalidate(event.organization.login);
+    }
+  }
+
+  private void invalidate(final String organization) {
+    final String prefix = organization.toLowerCase(Locale.ROOT) + '/';
+    this.teams.asMap().entrySet().removeIf(entry -> {
+      if (entry.getKey().startsWith(prefix)) {
+        entry.getValue().invalidate(); // for anyone still holding on to it
+        return true;
+      }
+      return false;
+    });
+  }
+
+  static final class Team {
+    // Held while loading, so concurrent checks of the same team only load it once
+    final Lock lock = new ReentrantLock();
+    volatile @Nullable Set<String> members;
+    volatile long loadedAt;
+    // Bumped by webhook events, so a load that raced with an event isn't trusted for long
+    volatile int generation;
+
+    boolean fresh() {
+      return this.members != null && System.nanoTime() - this.loadedAt < MAX_AGE_NANOS;
+    }
+
+    void loaded(final Set<String> members, final long startedAt, final int generation) {
+      this.members = members;
+      this.loadedAt = generation == this.generation ? startedAt : startedAt - MAX_AGE_NANOS;
+    }
+
+    void add(final String login) {
+      this.generation++;
+      final Set<String> members = this.members;
+      if (members != null) {
+        members.add(login);
+      }
+    }
+
+    void invalidate() {
+      this.generation++;
+      this.members = null;
+    }
+  }
+}
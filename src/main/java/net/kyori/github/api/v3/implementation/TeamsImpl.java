@@ -29,13 +29,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class TeamsImpl implements Teams {
   private final HTTP.RequestTemplate request;
+  private final String organization;
 
-  TeamsImpl(final HTTP.RequestTemplate request) {
+  TeamsImpl(final HTTP.RequestTemplate request, final String organization) {
     this.request = request.path("teams");
+    this.organization = organization;
   }
 
   @Override
   public @NonNull Team get(final @NonNull String slug) {
-    return new TeamImpl(this.request, slug);
+    return new TeamImpl(this.request, this.organization, slug);
   }
 }
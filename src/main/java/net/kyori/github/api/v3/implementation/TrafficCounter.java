@@ -0,0 +1,133 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import com.google.common.io.ByteStreams;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+import net.kyori.github.api.v3.Traffic;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+/**
+ * Counts response body bytes on both sides of decompression.
+ */
+final class TrafficCounter implements Traffic {
+  private final LongAdder received = new LongAdder();
+  private final LongAdder decompressed = new LongAdder();
+
+  /**
+   * Counts the bytes of responses made by a client.
+   *
+   * <p>Interceptors added first see the body as it came off the wire, and interceptors added last see it
+   * after the client has decompressed it, which it does while it is being read.</p>
+   *
+   * @param builder the client builder
+   * @return the client builder
+   */
+  HttpClientBuilder install(final HttpClientBuilder builder) {
+    // The client keeps only one interceptor of each class, so these must be two separate lambdas
+    return builder
+      .addInterceptorFirst((HttpResponseInterceptor) (response, context) -> count(response, this.received))
+      .addInterceptorLast((HttpResponseInterceptor) (response, context) -> count(response, this.decompressed));
+  }
+
+  private static void count(final HttpResponse response, final LongAdder bytes) {
+    final HttpEntity entity = response.getEntity();
+    if (entity != null) {
+      response.setEntity(new CountingEntity(entity, bytes));
+    }
+  }
+
+  @Override
+  public long received() {
+    return this.received.sum();
+  }
+
+  @Override
+  public long decompressed() {
+    return this.decompressed.sum();
+  }
+
+  private static final class CountingEntity extends HttpEntityWrapper {
+    private final LongAdder bytes;
+
+    CountingEntity(final HttpEntity entity, final LongAdder bytes) {
+      super(entity);
+      this.bytes = bytes;
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      return new CountingInputStream(super.getContent(), this.bytes);
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+      try (final InputStream in = this.getContent()) {
+        ByteStreams.copy(in, out);
+      }
+    }
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+    private final LongAdder bytes;
+
+    CountingInputStream(final InputStream in, final LongAdder bytes) {
+      super(in);
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read != -1) {
+        this.bytes.increment();
+      }
+      return read;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      final int read = super.read(b, off, len);
+      if (read > 0) {
+        this.bytes.add(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+      final long skipped = super.skip(n);
+      this.bytes.add(skipped);
+      return skipped;
+    }
+  }
+}
@@ -24,19 +24,59 @@
 package net.kyori.github.api.v3.implementation;
 
 import com.google.common.base.MoreObjects;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import net.kyori.github.api.v3.User;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class UserImpl implements User {
   private final String login;
-  private final String name;
-  private final String avatarUrl;
+  private final HTTP.@Nullable RequestTemplate users;
+  private volatile Partial.@Nullable User profile;
 
   UserImpl(final String login, final String name, final String avatarUrl) {
     this.login = login;
-    this.name = name;
-    this.avatarUrl = avatarUrl;
+    this.users = null;
+    final Partial.User profile = new Partial.User();
+    profile.login = login;
+    profile.name = name;
+    profile.avatar_url = avatarUrl;
+    this.profile = profile;
+  }
+
+  /**
+   * Creates a user whose profile is only retrieved when first needed.
+   *
+   * @param users the users - {@code /users}
+   * @param login the user login
+   */
+  UserImpl(final HTTP.RequestTemplate users, final String login) {
+    this.login = login;
+    this.users = users;
+  }
+
+  // Logins are case-insensitive
+  static String key(final String login) {
+    return login.toLowerCase(Locale.ROOT);
+  }
+
+  static Partial.User profile(final HTTP.RequestTemplate users, final String login) {
+    try {
+      // Concurrent lookups of the same user share a single request
+      return users.session.users.get(key(login), () -> users.path(login).get().as(Partial.User.class));
+    } catch (final ExecutionException e) {
+      throw Hacks.yeet(e.getCause());
+    }
+  }
+
+  private Partial.User profile() {
+    Partial.User profile = this.profile;
+    if (profile == null) {
+      this.profile = profile = profile(this.users, this.login);
+    }
+    return profile;
   }
 
   @Override
@@ -46,12 +86,12 @@ final class UserImpl implements User {
 
   @Override
   public @NonNull String name() {
-    return this.name;
+    return this.profile().name;
   }
 
   @Override
   public @NonNull String avatarUrl() {
-    return this.avatarUrl;
+    return this.profile().avatar_url;
   }
 
   @Override
@@ -23,11 +23,22 @@
  */
 package net.kyori.github.api.v3.implementation;
 
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.client.http.HttpStatusCodes;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.github.api.v3.User;
 import net.kyori.github.api.v3.Users;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class UsersImpl implements Users {
+  // How many profiles to retrieve at once when resolving many users
+  static final int PARALLELISM = 4;
   private final HTTP.RequestTemplate request;
 
   UsersImpl(final HTTP.RequestTemplate request) {
@@ -36,7 +47,38 @@ final class UsersImpl implements Users {
 
   @Override
   public @NonNull User get(final @NonNull String login) {
-    final Lazy<Partial.User> lazy = new Lazy<>(this.request.path(login), Partial.User.class);
-    return new UserImpl(lazy.get().login, lazy.get().name, lazy.get().avatar_url);
+    return new UserImpl(this.request, login);
+  }
+
+  @Override
+  public @NonNull Map<String, User> resolve(final @NonNull Iterable<String> logins) throws IOException {
+    final Map<String, Partial.User> profiles = new ConcurrentHashMap<>();
+    final List<String> missing = new ArrayList<>();
+    for (final String login : logins) {
+      final Partial.User profile = this.request.session.users.getIfPresent(UserImpl.key(login));
+      if (profile != null) {
+        profiles.put(login, profile);
+      } else {
+        missing.add(login);
+      }
+    }
+    Workers.forEach(this.request.session.executor, PARALLELISM, missing, login -> {
+      try {
+        profiles.put(login, UserImpl.profile(this.request, login));
+      } catch (final Throwable t) {
+        // Users that don't exist are left out
+        if (!(t instanceof HttpResponseException) || ((HttpResponseException) t).getStatusCode() != HttpStatusCodes.STATUS_CODE_NOT_FOUND) {
+          throw Hacks.yeet(t);
+        }
+      }
+    });
+    final Map<String, User> users = new LinkedHashMap<>();
+    for (final String login : logins) {
+      final Partial.User profile = profiles.get(login);
+      if (profile != null) {
+        users.put(login, this.request.session.interning.user(profile));
+      }
+    }
+    return Collections.unmodifiableMap(users);
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+final class Workers {
+  private Workers() {
+  }
+
+  // Runs a task for each item, on at most parallelism threads at a time
+  @SuppressWarnings("RedundantThrows")
+  static <T> void forEach(final Executor executor, final int parallelism, final Collection<T> items, final Consumer<T> task) throws IOException {
+    final Queue<T> queue = new ConcurrentLinkedQueue<>(items);
+    final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    final List<CompletableFuture<?>> workers = new ArrayList<>();
+    for (int i = 0; i < Math.min(parallelism, items.size()); i++) {
+      workers.add(CompletableFuture.runAsync(() -> {
+        T item;
+        while (failures.isEmpty() && (item = queue.poll()) != null) {
+          try {
+            task.accept(item);
+          } catch (final Throwable t) {
+            failures.add(t);
+          }
+        }
+      }, executor));
+    }
+    try {
+      CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+    } catch (final CompletionException e) {
+      failures.add(e.getCause());
+    }
+    final Throwable failure = failures.poll();
+    if (failure != null) {
+      for (final Throwable other : failures) {
+        failure.addSuppressed(other);
+      }
+      throw Hacks.yeet(failure);
+    }
+  }
+}
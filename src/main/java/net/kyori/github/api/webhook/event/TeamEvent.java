@@ -0,0 +1,63 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.webhook.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import net.kyori.github.api.webhook.model.Organization;
+import net.kyori.github.api.webhook.model.Repository;
+import net.kyori.github.api.webhook.model.Team;
+import net.kyori.github.api.webhook.model.User;
+
+/**
+ * TeamEvent.
+ *
+ * @since 2.0.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TeamEvent {
+  public Action action;
+  public Team team;
+  public Repository repository;
+  public Organization organization;
+  public User sender;
+
+  /**
+   * Action.
+   *
+   * @since 2.0.0
+   */
+  public enum Action {
+    @JsonProperty("created")
+    CREATED,
+    @JsonProperty("deleted")
+    DELETED,
+    @JsonProperty("edited")
+    EDITED,
+    @JsonProperty("added_to_repository")
+    ADDED_TO_REPOSITORY,
+    @JsonProperty("removed_from_repository")
+    REMOVED_FROM_REPOSITORY;
+  }
+}
@@ -45,6 +45,7 @@ public class Issue {
   public List<User> assignees;
   public Milestone milestone;
   public String body;
+  public String updated_at;
 
   // It's possible for PullRequest data to be provided in an Issue payload.
   public @Nullable PullRequest pull_request;
@@ -56,6 +57,7 @@ public class Issue {
    */
   @JsonIgnoreProperties(ignoreUnknown = true)
   public static class Comment {
+    public long id;
     public User user;
     public String body;
   }
@@ -40,6 +40,7 @@ public class PullRequest {
   public String title;
   public User user;
   public String body;
+  public String updated_at;
   public List<User> assignees;
   public List<Label> labels;
   public Milestone milestone;
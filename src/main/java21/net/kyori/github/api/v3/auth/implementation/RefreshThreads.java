@@ -0,0 +1,48 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.auth.implementation;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads of token refresh executors shared by default.
+ *
+ * <p>Refreshes block while waiting on the network, so every thread is a virtual thread. Only the threads
+ * differ between versions - the executors themselves are created in one place, by the
+ * {@link GitHubAppInstallationTokenManager}.</p>
+ */
+final class RefreshThreads {
+  private RefreshThreads() {
+  }
+
+  /**
+   * Creates a thread factory.
+   *
+   * @param name the name of the threads, which is followed by a number
+   * @return the thread factory
+   */
+  static ThreadFactory factory(final String name) {
+    return Thread.ofVirtual().name(name + "-", 0).factory();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of igloo, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.github.api.v3.implementation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads of executors shared by default.
+ *
+ * <p>Requests block while waiting on the network, so every thread is a virtual thread.</p>
+ */
+final class Threads {
+  private Threads() {
+  }
+
+  private static ThreadFactory factory(final String name) {
+    return Thread.ofVirtual().name(name + "-", 0).factory();
+  }
+
+  /**
+   * Creates an executor that runs each task straight away.
+   *
+   * @param name the name of the threads, which is followed by a number
+   * @return the executor
+   */
+  static ExecutorService executor(final String name) {
+    return Executors.newThreadPerTaskExecutor(factory(name));
+  }
+
+  /**
+   * Creates a scheduled executor.
+   *
+   * @param threads the number of threads
+   * @param name the name of the threads, which is followed by a number
+   * @return the scheduled executor
+   */
+  static ScheduledExecutorService scheduler(final int threads, final String name) {
+    return Executors.newScheduledThreadPool(threads, factory(name));
+  }
+}